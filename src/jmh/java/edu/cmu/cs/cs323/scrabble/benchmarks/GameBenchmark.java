@@ -0,0 +1,85 @@
+package edu.cmu.cs.cs323.scrabble.benchmarks;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGame;
+import edu.cmu.cs.cs323.scrabble.core.letters.DefaultTileBag;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.letters.TileBag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applying a move through the game (placing tiles, scoring, ending the turn and drawing new tiles),
+ * and drawing tiles from the bag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameBenchmark {
+  private static final int BAG_SIZE = 98;
+  /* Games set up per invocation, so that setting them up is rare next to the moves measured. */
+  private static final int GAMES = 64;
+
+  /**
+   * Games that have just started, each with a move ready for its current player. Placing the move
+   * changes the board, so a fresh batch is set up for every invocation.
+   */
+  @State(Scope.Thread)
+  public static class FreshGames {
+    private final SWSGame[] games = new SWSGame[GAMES];
+    private final Player[] players = new Player[GAMES];
+    private final Move[] moves = new Move[GAMES];
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+      for (int i = 0; i < GAMES; i++) {
+        games[i] = new SWSGame(Arrays.asList(new Player("First"), new Player("Second")));
+        games[i].setupGame();
+        players[i] = games[i].currentPlayer();
+
+        /* Give the current player the tiles for an opening move through the center square. */
+        Map<Position, LetterTile> placements = MidGameBoards.across(7, 4, "PLANET");
+        moves[i] = new Move(placements);
+        players[i].letterTiles().clear();
+        players[i].letterTiles().addAll(placements.values());
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(GAMES)
+  public int placeMoveAndEndTurn(FreshGames fresh) {
+    int score = 0;
+    for (int i = 0; i < GAMES; i++) {
+      fresh.games[i].placeMove(fresh.players[i], fresh.moves[i]);
+      fresh.games[i].endTurn(fresh.players[i]);
+      score += fresh.players[i].getScore();
+    }
+    return score;
+  }
+
+  /** Draws every tile from a freshly filled bag, so the bag size varies as it would in a game. */
+  @Benchmark
+  @OperationsPerInvocation(BAG_SIZE)
+  public int drawTile() {
+    TileBag bag = DefaultTileBag.create(new Random(42));
+    int points = 0;
+    while (!bag.isEmpty()) {
+      points += bag.drawTile().points();
+    }
+    return points;
+  }
+}
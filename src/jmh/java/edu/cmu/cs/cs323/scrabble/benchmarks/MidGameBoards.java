@@ -0,0 +1,90 @@
+package edu.cmu.cs.cs323.scrabble.benchmarks;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
+import edu.cmu.cs.cs323.scrabble.core.board.Direction;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixtures shared by the benchmarks: a standard board part way through a game.
+ *
+ * <pre>
+ *        4 5 6 7 8 9 10  12  14
+ *    6   S . R . . S . . . . .
+ *    7   P L A N E T . . . . .
+ *    8   I . I . . O . . . . .
+ *    9   N . N . . N . . G . .
+ *   10   E . . . . E X T R A .
+ *   11   . . . . . . . . A . .
+ *   12   . . . . . . O W N E D
+ *   13   . . . . . . . . D . .
+ * </pre>
+ */
+final class MidGameBoards {
+
+  private MidGameBoards() {
+  }
+
+  /**
+   * @return A default board with seven interlocking words on it.
+   */
+  static Board create() {
+    Board board = DefaultBoard.create();
+    place(board, across(7, 4, "PLANET"));
+    place(board, down(6, 6, "R"));
+    place(board, down(8, 6, "IN"));
+    place(board, down(6, 9, "S"));
+    place(board, down(8, 9, "ONE"));
+    place(board, across(10, 10, "XTRA"));
+    place(board, down(9, 12, "G"));
+    place(board, down(11, 12, "A"));
+    place(board, across(12, 10, "OW"));
+    place(board, across(12, 12, "NED"));
+    place(board, down(13, 12, "D"));
+    place(board, down(6, 4, "S"));
+    place(board, down(8, 4, "INE"));
+    return board;
+  }
+
+  /**
+   * @return The placements of the last word played on the board from {@link #create()}, OWNED.
+   */
+  static Move lastMove() {
+    Map<Position, LetterTile> placements = new HashMap<>();
+    placements.putAll(across(12, 10, "OW"));
+    placements.putAll(across(12, 12, "NED"));
+    return new Move(placements);
+  }
+
+  static Map<Position, LetterTile> across(int row, int col, String letters) {
+    return spell(Position.of(row, col), Direction.RIGHT, letters);
+  }
+
+  static Map<Position, LetterTile> down(int row, int col, String letters) {
+    return spell(Position.of(row, col), Direction.DOWN, letters);
+  }
+
+  private static Map<Position, LetterTile> spell(Position start, Direction direction,
+                                                 String letters) {
+    Map<Position, LetterTile> placements = new HashMap<>();
+    int rowStep = direction == Direction.DOWN ? 1 : 0;
+    int colStep = direction == Direction.RIGHT ? 1 : 0;
+    for (int i = 0; i < letters.length(); i++) {
+      Position position = Position.of(start.row + i * rowStep, start.col + i * colStep);
+      placements.put(position, new LetterTile(Letter.valueOf(letters.substring(i, i + 1))));
+    }
+    return placements;
+  }
+
+  private static void place(Board board, Map<Position, LetterTile> placements) {
+    for (Map.Entry<Position, LetterTile> placement : placements.entrySet()) {
+      board.placeLetterTile(placement.getKey(), placement.getValue());
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package edu.cmu.cs.cs323.scrabble.benchmarks;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.board.WordExtractor;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word extraction, scoring, and move validation on a mid-game board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveBenchmark {
+  private Board board;
+  private Move playedMove;
+  private Move candidateMove;
+  private Player player;
+  private final WordExtractor extractor = new WordExtractor();
+
+  @Setup
+  public void setUp() {
+    board = MidGameBoards.create();
+    playedMove = MidGameBoards.lastMove();
+
+    /* Extend SPINE down to SPINES. */
+    Map<Position, LetterTile> placements = MidGameBoards.down(11, 4, "S");
+    candidateMove = new Move(placements);
+    player = new Player("Benchmark");
+    player.letterTiles().addAll(placements.values());
+  }
+
+  @Benchmark
+  public List<PlayedWord> words() {
+    return playedMove.words(board);
+  }
+
+  @Benchmark
+  public int totalScore() {
+    return playedMove.totalScore(board);
+  }
+
+  @Benchmark
+  public int totalScoreReusingExtractor() {
+    return playedMove.totalScore(board, extractor);
+  }
+
+  @Benchmark
+  public boolean isValidMove() {
+    return board.isValidMove(player, candidateMove, false);
+  }
+}
@@ -0,0 +1,56 @@
+package edu.cmu.cs.cs323.scrabble.benchmarks;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.engine.MoveGenerator;
+import edu.cmu.cs.cs323.scrabble.core.engine.MoveList;
+import edu.cmu.cs.cs323.scrabble.core.engine.ParallelMoveGenerator;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates every move for a full rack on a mid-game board, on one thread and in parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoveGeneratorBenchmark {
+  private Board board;
+  private List<LetterTile> rack;
+  private MoveGenerator generator;
+  private ParallelMoveGenerator parallelGenerator;
+  private final MoveList moves = new MoveList();
+
+  @Setup
+  public void setUp() {
+    board = MidGameBoards.create();
+    rack = new ArrayList<>();
+    for (char letter : "SATIRES".toCharArray()) {
+      rack.add(new LetterTile(Letter.valueOf(String.valueOf(letter))));
+    }
+    generator = new MoveGenerator(Dawg.defaultDawg());
+    parallelGenerator = new ParallelMoveGenerator(Dawg.defaultDawg());
+    board.enableCrossChecks(Dawg.defaultDawg());
+  }
+
+  @Benchmark
+  public int generate() {
+    return generator.generate(board, rack, moves);
+  }
+
+  @Benchmark
+  public MoveList generateParallel() {
+    return parallelGenerator.generate(board, rack);
+  }
+}
@@ -0,0 +1,81 @@
+package edu.cmu.cs.cs323.scrabble.benchmarks;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.validation.BloomFilterValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.LexiconValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.TextFileValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.WordValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates the words formed by the last move on a mid-game board (OWNED, crossing GRAND), plus one
+ * word that is not in the dictionary, with each kind of validator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+  private List<PlayedWord> words;
+  private WordValidator textFile;
+  private WordValidator hashed;
+  private WordValidator dawg;
+  private WordValidator bloom;
+
+  @Setup
+  public void setUp() {
+    words = new ArrayList<>(MidGameBoards.lastMove().words(MidGameBoards.create()));
+    words.add(new PlayedWord(Arrays.asList(Letter.Q, Letter.X, Letter.Z, Letter.V), 0));
+
+    textFile = new TextFileValidator(WordList.DEFAULT_FILENAME);
+    hashed = new LexiconValidator();
+    dawg = new LexiconValidator(Dawg.defaultDawg());
+    bloom = new BloomFilterValidator(hashed);
+  }
+
+  @Benchmark
+  public boolean[] textFileOneAtATime() {
+    return oneAtATime(textFile);
+  }
+
+  @Benchmark
+  public boolean[] textFileBatch() {
+    return textFile.areValidWords(words);
+  }
+
+  @Benchmark
+  public boolean[] hashedLexicon() {
+    return oneAtATime(hashed);
+  }
+
+  @Benchmark
+  public boolean[] dawg() {
+    return oneAtATime(dawg);
+  }
+
+  @Benchmark
+  public boolean[] bloomFilteredHashedLexicon() {
+    return oneAtATime(bloom);
+  }
+
+  private boolean[] oneAtATime(WordValidator validator) {
+    boolean[] results = new boolean[words.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = validator.isValidWord(words.get(i));
+    }
+    return results;
+  }
+}
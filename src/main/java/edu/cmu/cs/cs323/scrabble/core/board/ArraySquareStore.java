@@ -0,0 +1,48 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Square store with one square object per square, for boards of ordinary size.
+ */
+final class ArraySquareStore implements SquareStore {
+  private final Square[] squares;
+
+  ArraySquareStore(Square[] squares) {
+    this.squares = squares;
+  }
+
+  @Override
+  public Square get(int index) {
+    return squares[index];
+  }
+
+  @Override
+  public Square writable(int index) {
+    return squares[index];
+  }
+
+  @Override
+  public void release(int index) {
+    /* Every square is kept. */
+  }
+
+  @Override
+  public int wordMultiplier(int index) {
+    return squares[index].wordMultiplier();
+  }
+
+  @Override
+  public int letterMultiplier(int index) {
+    return squares[index].letterMultiplier();
+  }
+
+  @Override
+  public void forEachStored(IntConsumer action) {
+    for (int index = 0; index < squares.length; index++) {
+      action.accept(index);
+    }
+  }
+}
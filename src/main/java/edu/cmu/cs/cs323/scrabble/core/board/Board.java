@@ -1,23 +1,51 @@
 package edu.cmu.cs.cs323.scrabble.core.board;
 
 import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+import edu.cmu.cs.cs323.scrabble.core.board.square.MultiplierSquare;
 import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
 import edu.cmu.cs.cs323.scrabble.core.board.square.StandardSquare;
+import edu.cmu.cs.cs323.scrabble.core.game.Journal;
 import edu.cmu.cs.cs323.scrabble.core.game.Move;
 import edu.cmu.cs.cs323.scrabble.core.game.Player;
 import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
 import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
 import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
 
 import java.util.*;
 
 /**
  * ScrabbleWithStuff Board object. Tracks letter tile and special tile placements.
+ *
+ * Squares are addressed in row-major order, so the square at {@code (row, col)} is at index
+ * {@code row * width + col}. Scans along a row or column step by index instead of creating and
+ * hashing a {@link Position} for every square visited. Ordinary boards keep every square in a flat
+ * array; boards created with {@link #sparse} only keep the squares that hold tiles, and take their
+ * multipliers from a {@link MultiplierLayout}.
+ *
+ * Which squares hold letter tiles is also tracked in an {@link Occupancy} bitboard, which answers
+ * adjacency, contiguity and anchor queries a row or column at a time. Once
+ * {@link #enableCrossChecks(WordGraph)} has been called, the board also keeps the cross-check set of
+ * every empty square up to date as tiles come and go.
+ *
+ * The board also maintains a 64-bit Zobrist hash of the tiles on it, updated with one XOR per tile
+ * placed or removed, which identifies a position in O(1) for transposition tables and caches.
+ *
+ * After every change, the board publishes an immutable {@link BoardSnapshot} that other threads can
+ * read without locking; see {@link #snapshot()}.
  */
 public final class Board {
+  /* Boards with more squares than this are made sparse by blank(). */
+  private static final int SPARSE_THRESHOLD = 128 * 128;
+
   private final int width;
   private final int height;
-  private final Map<Position, Square> squares;
+  private final SquareStore squares;
+  private final Occupancy occupancy;
+  private CrossChecks crossChecks;
+  private Journal journal;
+  private long hash;
+  private volatile BoardSnapshot snapshot;
 
   /**
    * Factory for creating a blank board (board with no special squares) of a certain size.
@@ -27,13 +55,86 @@ public final class Board {
    * @return A blank board with the desired width and height.
    */
   public static Board blank(int width, int height) {
-    Map<Position,Square> squareMap = new HashMap<>();
+    if ((long) width * height > SPARSE_THRESHOLD) {
+      return sparse(width, height, MultiplierLayout.uniform());
+    }
+    Square[] squares = new Square[width * height];
+    for (int i = 0; i < squares.length; i++) {
+      squares[i] = new StandardSquare();
+    }
+    return new Board(width, height, new ArraySquareStore(squares));
+  }
+
+  /**
+   * Factory for creating a board that only stores the squares holding tiles, for very large boards.
+   * Memory use and the cost of word extraction and move validation grow with the number of tiles
+   * involved, not with the size of the board. The row and column bitboards still take
+   * {@code width * height / 4} bytes, and cross-checks, if enabled, take {@code 8} bytes per square.
+   *
+   * Requires {@code width * height <= Integer.MAX_VALUE}.
+   *
+   * @param width Desired width
+   * @param height Desired height
+   * @param layout Multipliers of each square.
+   * @return An empty sparse board with the desired width, height and multipliers.
+   */
+  public static Board sparse(int width, int height, MultiplierLayout layout) {
+    if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid board size.");
+    }
+    return new Board(width, height, new SparseSquareStore(width, layout));
+  }
+
+  /**
+   * Creates a board with the same size, multipliers and tiles as a snapshot. The new board shares
+   * nothing with the board the snapshot was taken from, so it can be used to try out moves away
+   * from the game, for example on another thread. Cross-checks are not enabled, and no journal is
+   * set.
+   *
+   * @param snapshot Snapshot to copy.
+   * @return New board holding the snapshot's tiles.
+   */
+  public static Board copyOf(BoardSnapshot snapshot) {
+    int width = snapshot.width();
+    int height = snapshot.height();
+    Board board;
+    if ((long) width * height > SPARSE_THRESHOLD) {
+      board = sparse(width, height, new MultiplierLayout() {
+        @Override
+        public int wordMultiplier(int row, int col) {
+          return snapshot.square(row, col).wordMultiplier();
+        }
+
+        @Override
+        public int letterMultiplier(int row, int col) {
+          return snapshot.square(row, col).letterMultiplier();
+        }
+      });
+    } else {
+      Square[] squares = new Square[width * height];
+      for (int r = 0; r < height; r++) {
+        for (int c = 0; c < width; c++) {
+          ImmutableSquare square = snapshot.square(r, c);
+          squares[r * width + c] =
+                  new MultiplierSquare(square.wordMultiplier(), square.letterMultiplier());
+        }
+      }
+      board = new Board(width, height, new ArraySquareStore(squares));
+    }
     for (int r = 0; r < height; r++) {
       for (int c = 0; c < width; c++) {
-        squareMap.put(new Position(r, c), new StandardSquare());
+        ImmutableSquare square = snapshot.square(r, c);
+        if (square.getLetterTile() != null) {
+          board.placeLetterTile(Position.of(r, c), square.getLetterTile());
+        }
+        if (square.hasSpecialTiles()) {
+          for (SpecialTile specialTile : square.getSpecialTiles()) {
+            board.placeSpecialTile(Position.of(r, c), specialTile);
+          }
+        }
       }
     }
-    return new Board(width, height, squareMap);
+    return board;
   }
 
   /**
@@ -46,9 +147,54 @@ public final class Board {
    * @param squares Mapping of positions to square objects.
      */
   Board(int width, int height, Map<Position, Square> squares) {
+    this(width, height, new ArraySquareStore(toArray(width, height, squares)));
+  }
+
+  private Board(int width, int height, SquareStore squares) {
     this.width = width;
     this.height = height;
     this.squares = squares;
+    this.occupancy = new Occupancy(width, height);
+    this.snapshot = BoardSnapshot.empty(width, height, this::emptyView);
+    squares.forEachStored(index -> {
+      Square square = squares.get(index);
+      if (square.hasLetterTile()) {
+        occupancy.set(index / width, index % width);
+        hash ^= Zobrist.letterKey(index, square.getLetterTile().letter().ordinal());
+      }
+      for (SpecialTile specialTile : square.getSpecialTiles()) {
+        hash ^= Zobrist.specialKey(index, specialTile);
+      }
+    });
+    squares.forEachStored(index -> {
+      if (squares.get(index).hasLetterTile() || squares.get(index).hasSpecialTiles()) {
+        publish(index);
+      }
+    });
+  }
+
+  private static Square[] toArray(int width, int height, Map<Position, Square> squareMap) {
+    Square[] squares = new Square[width * height];
+    for (int r = 0; r < height; r++) {
+      for (int c = 0; c < width; c++) {
+        squares[r * width + c] = squareMap.get(Position.of(r, c));
+      }
+    }
+    return squares;
+  }
+
+  /**
+   * @return Number of columns on the board.
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * @return Number of rows on the board.
+   */
+  public int height() {
+    return height;
   }
 
   /**
@@ -62,7 +208,18 @@ public final class Board {
    * @return True if the position exists on the given board.
    */
   public boolean isValidPosition(Position position) {
-    return squares.containsKey(position);
+    return position != null && isValidPosition(position.row, position.col);
+  }
+
+  /**
+   * Determines whether the given row and column are within the bounds of the board.
+   *
+   * @param row Row index.
+   * @param col Column index.
+   * @return True if the square exists on the given board.
+   */
+  public boolean isValidPosition(int row, int col) {
+    return row >= 0 && row < height && col >= 0 && col < width;
   }
   
   /**
@@ -82,6 +239,11 @@ public final class Board {
     /* Ensure all positions are on the board, and no tiles are being placed where tiles already
      * exist. If there is a letter tile in a position, it is definitely blocked, and players are
      * blocked from hitting their own special tiles.*/
+    for (Position position : placementPositions) {
+      if (!isValidPosition(position)) {
+        return false;
+      }
+    }
 
     /* Ensure player has the tiles they want to place */
     if (!player.letterTiles().containsAll(placements.values())) {
@@ -103,16 +265,18 @@ public final class Board {
     }
 
     /*
-    * Ensure the combination of new and existing tiles forms a contiguous sequence.
+    * Ensure the combination of new and existing tiles forms a contiguous sequence. Every placement
+    * lies between the upper left and lower right placements, and there are no duplicates, so the
+    * span is contiguous exactly when the number of empty squares in it equals the number of tiles
+    * being placed.
     */
-    Direction placementDirection = rowsAllEqual ? Direction.RIGHT:Direction.DOWN;
-    Position position = move.upperLeft();
-    final Position stopPosition = nextPosition(move.lowerRight(), placementDirection);
-    while (position != null && !position.equals(stopPosition)) {
-        if (!(squares.get(position).hasLetterTile() || placementPositions.contains(position))) {
-          return false;
-        }
-        position = nextPosition(position, placementDirection);
+    Position first = move.upperLeft();
+    Position last = move.lowerRight();
+    int emptySquares = rowsAllEqual
+            ? occupancy.emptyInRow(first.row, first.col, last.col)
+            : occupancy.emptyInColumn(first.col, first.row, last.row);
+    if (emptySquares != placementPositions.size()) {
+      return false;
     }
 
     /* Ensure the move is not in the middle of space. */
@@ -121,8 +285,14 @@ public final class Board {
        * it is more than one letter. */
       return !move.upperLeft().equals(move.lowerRight());
     } else {
-      /* Otherwise, ensure the move is connected to existing tiles, not in the middle of space. */
-      return hasAdjacentLetter(move.upperLeft()) || hasAdjacentLetter(move.lowerRight());
+      /* Otherwise, ensure the move is connected to existing tiles, not in the middle of space. Any
+       * placed tile may be the one touching them, not just the ends of the move. */
+      for (Position position : placementPositions) {
+        if (hasAdjacentLetter(position)) {
+          return true;
+        }
+      }
+      return false;
     }
   }
 
@@ -135,10 +305,19 @@ public final class Board {
    * Letter tile to be put in position.
    */
   public void placeLetterTile(Position position, LetterTile letterTile) {
-    if (!isValidPosition(position) || squares.get(position).hasLetterTile()) {
+    if (!isValidPosition(position) || squares.get(index(position)).hasLetterTile()) {
       throw new IllegalArgumentException("Invalid tile placement");
     }
-    squares.get(position).placeLetterTile(letterTile);
+    squares.writable(index(position)).placeLetterTile(letterTile);
+    occupancy.set(position.row, position.col);
+    hash ^= Zobrist.letterKey(index(position), letterTile.letter().ordinal());
+    publish(index(position));
+    if (crossChecks != null) {
+      crossChecks.update(this, position.row, position.col);
+    }
+    if (journal != null) {
+      journal.record(new LetterChange(this, position, letterTile, true));
+    }
   }
 
   /**
@@ -155,15 +334,21 @@ public final class Board {
    * Special tile to be put in position.
    */
   public void placeSpecialTile(Position position, SpecialTile specialTile) {
-    if (!isValidPosition(position) || squares.get(position).hasLetterTile()) {
+    if (!isValidPosition(position) || squares.get(index(position)).hasLetterTile()) {
       throw new IllegalArgumentException("Invalid tile placement");
     }
-    for (SpecialTile existingTile : squares.get(position).getSpecialTiles()) {
+    for (SpecialTile existingTile : squares.get(index(position)).getSpecialTiles()) {
       if (existingTile.owner().equals(specialTile.owner())) {
         throw new IllegalArgumentException("Cannot combine special tiles.");
       }
     }
-    squares.get(position).placeSpecialTile(specialTile);
+    squares.writable(index(position)).placeSpecialTile(specialTile);
+    hash ^= Zobrist.specialKey(index(position), specialTile);
+    publish(index(position));
+    if (journal != null) {
+      journal.record(new SpecialChange(this, position, Collections.singletonList(specialTile),
+              true));
+    }
   }
 
   /**
@@ -180,7 +365,7 @@ public final class Board {
    * returned.
    */
   public PlayedWord horizontalWordIncluding(Position position) {
-    return getContinuousWord(position, Direction.LEFT, Direction.RIGHT);
+    return getContinuousWord(position, true);
   }
 
   /**
@@ -196,7 +381,7 @@ public final class Board {
    * this tile is the only tile forming that word (one letter words are not considered words in Scrabble), null is returned.
    */
   public PlayedWord verticalWordIncluding(Position position) {
-    return getContinuousWord(position, Direction.UP, Direction.DOWN);
+    return getContinuousWord(position, false);
   }
 
   /**
@@ -212,7 +397,201 @@ public final class Board {
       throw new IllegalArgumentException("Invalid tile placement");
     }
 
-    return squares.get(position).removeLetterTile();
+    int index = index(position);
+    LetterTile letterTile = null;
+    if (squares.get(index).hasLetterTile()) {
+      letterTile = squares.writable(index).removeLetterTile();
+      squares.release(index);
+    }
+    occupancy.clear(position.row, position.col);
+    if (crossChecks != null) {
+      crossChecks.update(this, position.row, position.col);
+    }
+    if (letterTile != null) {
+      hash ^= Zobrist.letterKey(index, letterTile.letter().ordinal());
+      publish(index);
+      if (journal != null) {
+        journal.record(new LetterChange(this, position, letterTile, false));
+      }
+    }
+    return letterTile;
+  }
+
+  /**
+   * Returns the Zobrist hash of the letter tiles and special tiles on the board. Boards holding the
+   * same tiles on the same squares have the same hash, however they got there. Square multipliers
+   * are not included.
+   *
+   * @return 64-bit hash of the board's tiles.
+   */
+  public long zobristHash() {
+    return hash;
+  }
+
+  /**
+   * Returns the Zobrist hash of the board combined with the contents of a rack, for identifying
+   * the position as seen by the player holding it. Only the rack's letters count, not their order.
+   *
+   * @param rack Letter tiles held by a player.
+   * @return 64-bit hash of the board's tiles and the rack's letters.
+   */
+  public long zobristHash(List<LetterTile> rack) {
+    int[] copies = new int[Letter.values().length];
+    long rackHash = 0;
+    for (LetterTile tile : rack) {
+      int letterCode = tile.letter().ordinal();
+      rackHash ^= Zobrist.rackKey(letterCode, ++copies[letterCode]);
+    }
+    return hash ^ rackHash;
+  }
+
+  /**
+   * Records every later change to the board's tiles in the given journal, so that it can be undone.
+   *
+   * @param journal Journal to record changes in, or null to stop recording.
+   */
+  public void setJournal(Journal journal) {
+    this.journal = journal;
+  }
+
+  /**
+   * Starts tracking cross-checks against the given dictionary. They are computed for the whole board
+   * now, and then kept up to date by {@link #placeLetterTile} and {@link #pickupLetterTile}.
+   *
+   * @param graph Dictionary, walked from the start of each word forwards, such as a DAWG.
+   */
+  public void enableCrossChecks(WordGraph graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Graph must be non-null.");
+    }
+    crossChecks = new CrossChecks(graph, width, height);
+    crossChecks.recomputeAll(this);
+  }
+
+  /**
+   * @return True if {@link #enableCrossChecks(WordGraph)} has been called.
+   */
+  public boolean hasCrossChecks() {
+    return crossChecks != null;
+  }
+
+  /**
+   * Returns the letters that can go on an empty square without forming an invalid perpendicular
+   * word. For an across move that is the word running down through the square, and vice versa.
+   *
+   * Requires {@code hasCrossChecks()}, {@code isValidPosition(row, col)} and that the square is empty.
+   *
+   * @param row Row index.
+   * @param col Column index.
+   * @param acrossMove True for a tile placed as part of an across move, false for a down move.
+   * @return Mask with bit {@code Letter.ordinal()} set for each allowed letter.
+   */
+  public int crossCheck(int row, int col, boolean acrossMove) {
+    if (crossChecks == null) {
+      throw new IllegalStateException("Cross-checks have not been enabled.");
+    }
+    if (!isValidPosition(row, col)) {
+      throw new IllegalArgumentException("Invalid position argument.");
+    }
+    return crossChecks.allowed(row, col, acrossMove);
+  }
+
+  /**
+   * Determines whether every word a move forms perpendicular to its own direction is in the
+   * dictionary given to {@link #enableCrossChecks(WordGraph)}. The word along the move's direction
+   * is not checked. A single tile is treated as an across move.
+   *
+   * Requires {@code hasCrossChecks()}, and that every placement is on an empty square of this board.
+   *
+   * @param move Move in question.
+   * @return True if none of the move's tiles forms an invalid cross word.
+   */
+  public boolean crossWordsValid(Move move) {
+    boolean acrossMove = move.orientation() == Move.Orientation.ACROSS;
+    for (Map.Entry<Position, LetterTile> placement : move.placements().entrySet()) {
+      Position position = placement.getKey();
+      int allowed = crossCheck(position.row, position.col, acrossMove);
+      if ((allowed & (1 << placement.getValue().letter().ordinal())) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether there is a letter tile at the given row and column.
+   *
+   * @param row Row index.
+   * @param col Column index.
+   * @return True if the square is on the board and holds a letter tile.
+   */
+  public boolean isOccupied(int row, int col) {
+    return occupancy.isOccupied(row, col);
+  }
+
+  /**
+   * @return True if no letter tiles have been placed on the board.
+   */
+  public boolean isEmpty() {
+    return occupancy.isEmpty();
+  }
+
+  /**
+   * @param across True for row masks, false for column masks.
+   * @return Number of longs in an anchor mask for a row (if {@code across}) or a column.
+   */
+  public int anchorMaskLength(boolean across) {
+    return Occupancy.words(across ? width : height);
+  }
+
+  /**
+   * Finds the anchor squares of a row. An anchor is an empty square with a letter tile directly
+   * above, below, left or right of it; every move other than the first covers at least one.
+   *
+   * Requires {@code 0 <= row < height()}.
+   *
+   * @param row Row index.
+   * @param into Receives the anchors, with bit {@code col % 64} of element {@code col / 64} set for
+   *             each anchor in the row. Must be at least {@code anchorMaskLength(true)} long.
+   */
+  public void rowAnchors(int row, long[] into) {
+    if (row < 0 || row >= height) {
+      throw new IllegalArgumentException("Invalid row argument.");
+    }
+    occupancy.rowAnchors(row, into);
+  }
+
+  /**
+   * Finds the anchor squares of a column, as in {@link #rowAnchors}.
+   *
+   * Requires {@code 0 <= col < width()}.
+   *
+   * @param col Column index.
+   * @param into Receives the anchors, with bit {@code row % 64} of element {@code row / 64} set for
+   *             each anchor in the column. Must be at least {@code anchorMaskLength(false)} long.
+   */
+  public void columnAnchors(int col, long[] into) {
+    if (col < 0 || col >= width) {
+      throw new IllegalArgumentException("Invalid column argument.");
+    }
+    occupancy.columnAnchors(col, into);
+  }
+
+  /**
+   * @return Positions of all anchor squares on the board, in row-major order.
+   */
+  public List<Position> anchors() {
+    List<Position> anchors = new ArrayList<>();
+    long[] mask = new long[anchorMaskLength(true)];
+    for (int r = 0; r < height; r++) {
+      occupancy.rowAnchors(r, mask);
+      for (int w = 0; w < mask.length; w++) {
+        for (long bits = mask[w]; bits != 0; bits &= bits - 1) {
+          anchors.add(Position.of(r, w * 64 + Long.numberOfTrailingZeros(bits)));
+        }
+      }
+    }
+    return anchors;
   }
 
   /**
@@ -231,12 +610,86 @@ public final class Board {
       throw new IllegalArgumentException("Invalid position argument.");
     }
 
-    Square square = squares.get(position);
+    int index = index(position);
+    List<SpecialTile> specialTiles = squares.get(index).getSpecialTiles();
+    if (!specialTiles.isEmpty()) {
+      squares.writable(index).clearSpecialTiles();
+      squares.release(index);
+    }
+    for (SpecialTile specialTile : specialTiles) {
+      hash ^= Zobrist.specialKey(index, specialTile);
+    }
+    if (!specialTiles.isEmpty()) {
+      publish(index);
+      if (journal != null) {
+        journal.record(new SpecialChange(this, position, specialTiles, false));
+      }
+    }
+
+    return specialTiles;
+  }
 
-    List<SpecialTile> specialTiles = square.getSpecialTiles();
+  /* Takes one special tile off a square, leaving any others. Only used to undo placing it. */
+  private void removeSpecialTile(Position position, SpecialTile specialTile) {
+    int index = index(position);
+    Square square = squares.writable(index);
+    List<SpecialTile> remaining = square.getSpecialTiles();
+    remaining.remove(specialTile);
     square.clearSpecialTiles();
+    hash ^= Zobrist.specialKey(index, specialTile);
+    remaining.forEach(square::placeSpecialTile);
+    squares.release(index);
+    publish(index);
+  }
 
-    return specialTiles;
+  /**
+   * Returns the most recently published snapshot of the board. Snapshots never change, so they can
+   * be read from any thread while the board continues to be modified.
+   *
+   * @return Immutable view of the board as of its last change.
+   */
+  public BoardSnapshot snapshot() {
+    return snapshot;
+  }
+
+  /* Publishes a new snapshot in which the square at `index` matches the board. */
+  private void publish(int index) {
+    Square square = squares.get(index);
+    ImmutableSquare view = null;
+    if (square.hasLetterTile() || square.hasSpecialTiles()) {
+      view = new ImmutableSquare(square.wordMultiplier(), square.letterMultiplier(),
+              square.getLetterTile(), square.getSpecialTiles());
+    }
+    snapshot = snapshot.with(index, view, hash);
+  }
+
+  /* View of the square at `index` with no tiles on it. Multipliers never change, so this is safe
+   * to call from reader threads. */
+  private ImmutableSquare emptyView(int index) {
+    return EmptySquareViews.of(squares.wordMultiplier(index), squares.letterMultiplier(index));
+  }
+
+  /** Shared views of tile-free squares, one per combination of small multipliers. */
+  static final class EmptySquareViews {
+    private static final int LIMIT = 4;
+    private static final ImmutableSquare[] VIEWS = new ImmutableSquare[LIMIT * LIMIT];
+
+    static {
+      for (int word = 0; word < LIMIT; word++) {
+        for (int letter = 0; letter < LIMIT; letter++) {
+          VIEWS[word * LIMIT + letter] =
+                  new ImmutableSquare(word, letter, null, Collections.emptyList());
+        }
+      }
+    }
+
+    static ImmutableSquare of(int wordMultiplier, int letterMultiplier) {
+      if (wordMultiplier >= 0 && wordMultiplier < LIMIT
+              && letterMultiplier >= 0 && letterMultiplier < LIMIT) {
+        return VIEWS[wordMultiplier * LIMIT + letterMultiplier];
+      }
+      return new ImmutableSquare(wordMultiplier, letterMultiplier, null, Collections.emptyList());
+    }
   }
 
   /**
@@ -253,12 +706,12 @@ public final class Board {
       throw new IllegalArgumentException("Invalid position argument.");
     }
 
-    Square square = squares.get(position);
+    Square square = squares.get(index(position));
     return square.getLetterTile();
   }
 
   /**
-   * Returns an immutable copy of the square at the given position.
+   * Returns an immutable copy of the square at the given position, from the latest snapshot.
    *
    * Requires {@code isValidPosition(position)}
    *
@@ -270,9 +723,7 @@ public final class Board {
       throw new IllegalArgumentException("Invalid position argument.");
     }
 
-    Square square = squares.get(position);
-    return new ImmutableSquare(square.wordMultiplier(), square.letterMultiplier(),
-            square.getLetterTile(), Collections.unmodifiableList(square.getSpecialTiles()));
+    return snapshot.square(position);
   }
 
 
@@ -306,7 +757,7 @@ public final class Board {
       String specialAccum = "|";
       for (int c = 0; c < width; c++) {
         // Print Letter
-        Square square = squares.get(new Position(r, c));
+        Square square = squares.get(index(r, c));
         if (square.hasLetterTile()) {
           letterAccum += String.format("%s", square.getLetterTile().toString());
         } else {
@@ -348,67 +799,138 @@ public final class Board {
   }
 
   private boolean hasAdjacentLetter(Position position) {
-    for (Direction direction : Direction.values()) {
-      Position next = nextPosition(position, direction);
-      if (next != null && squares.get(next).hasLetterTile()) {
-        return true;
-      }
-    }
-    return false;
+    return occupancy.hasOccupiedNeighbor(position.row, position.col);
   }
 
 
-  private PlayedWord getContinuousWord(Position position, Direction backwards, Direction forwards) {
-    if (!squares.get(position).hasLetterTile()) {
+  private PlayedWord getContinuousWord(Position position, boolean across) {
+    if (!squares.get(index(position)).hasLetterTile()) {
       throw new IllegalArgumentException("No tile exists at given position.");
     }
+    int rowStep = across ? 0 : 1;
+    int colStep = across ? 1 : 0;
 
     /* First, we move backwards from the given position to get to the start of the word.
     * We move backwards as long as we find letters before the current position, or run into the edge of the board. */
-    Position startPosition = position;
-    Position next = nextPosition(startPosition, backwards);
-    while (next != null && squares.get(next).hasLetterTile()) {
-      startPosition = next;
-      next = nextPosition(startPosition, backwards);
+    int row = position.row;
+    int col = position.col;
+    while (occupancy.isOccupied(row - rowStep, col - colStep)) {
+      row -= rowStep;
+      col -= colStep;
     }
+    final int start = index(row, col);
 
-    /* PlayedWord is an immutable object, so we need to store its letters and score in local variables before
-    * creating the PlayedWord object. */
-    List<Letter> letterList = new ArrayList<>();
+    /* Then we move forwards over the continuous sequence of letters. Each time a letter is passed, the
+    * "scoreAccumulator" is incremented by the amount contributed by that specific letter. The "scoreMultiplier" is
+    * updated separately, because its effect should not take effect until the total of the letter scores has been
+    * summed.
+    */
+    int length = 0;
     int scoreAccumulator = 0;
     int scoreMultiplier = 1;
-
-    /* We have the first position, so we add that letter, and all letters in a continuous sequence after it to our
-    * list of letters for the word. Each time a letter is added, the "scoreAccumulator" is incremented by the amount
-    * contributed by that specific letter. The "scoreMultiplier" is updated separately, because its effect should not
-    * take effect until the total of the letter scores has been summed.
-    */
-    Square startSquare = squares.get(startPosition);
-    letterList.add(startSquare.getLetterTile().letter());
-    scoreAccumulator += startSquare.getLetterTile().points() * startSquare.letterMultiplier();
-    scoreMultiplier *= startSquare.wordMultiplier();
-
-    next = nextPosition(startPosition, forwards);
-    while (next != null && squares.get(next).hasLetterTile()) {
-      Square nextSquare = squares.get(next);
-      LetterTile nextLetterTile = nextSquare.getLetterTile();
-      letterList.add(nextLetterTile.letter());
-      next = nextPosition(next, forwards);
-      scoreAccumulator += nextLetterTile.points() * nextSquare.letterMultiplier();
-      scoreMultiplier *= nextSquare.wordMultiplier();
+    while (occupancy.isOccupied(row, col)) {
+      Square square = squares.get(index(row, col));
+      scoreAccumulator += square.getLetterTile().points() * square.letterMultiplier();
+      scoreMultiplier *= square.wordMultiplier();
+      length++;
+      row += rowStep;
+      col += colStep;
     }
 
     /* In scrabble, a word must have at least two letters. */
-    if (letterList.size() > 1) {
-      int totalScore = scoreAccumulator * scoreMultiplier;
-      return new PlayedWord(letterList, totalScore);
+    if (length < 2) {
+      return null;
     }
-    return null;
+    /* PlayedWord is an immutable object, so its letters are only collected once we know the word is long enough. */
+    int step = across ? 1 : width;
+    List<Letter> letterList = new ArrayList<>(length);
+    for (int i = 0; i < length; i++) {
+      letterList.add(squares.get(start + i * step).getLetterTile().letter());
+    }
+    return new PlayedWord(letterList, scoreAccumulator * scoreMultiplier);
+  }
+
+  /* Letter code of the tile at (row, col). Requires the square to be occupied. */
+  int letterCode(int row, int col) {
+    return squares.get(index(row, col)).getLetterTile().letter().ordinal();
+  }
+
+  /* Square at (row, col), for readers in this package. Must not be modified. */
+  Square squareAt(int row, int col) {
+    return squares.get(index(row, col));
+  }
+
+  private int index(Position position) {
+    return index(position.row, position.col);
+  }
+
+  private int index(int row, int col) {
+    return row * width + col;
   }
 
-  private Position nextPosition(Position currentPosition, Direction d) {
-    Position next = d.adjacent(currentPosition);
-    return isValidPosition(next) ? next : null;
+  /** Journal entry for a letter tile placed on or picked up from a square, the most common change. */
+  private static final class LetterChange implements Journal.Change {
+    private final Board board;
+    private final Position position;
+    private final LetterTile letterTile;
+    private final boolean placed;
+
+    LetterChange(Board board, Position position, LetterTile letterTile, boolean placed) {
+      this.board = board;
+      this.position = position;
+      this.letterTile = letterTile;
+      this.placed = placed;
+    }
+
+    @Override
+    public void undo() {
+      if (placed) {
+        board.pickupLetterTile(position);
+      } else {
+        board.placeLetterTile(position, letterTile);
+      }
+    }
+
+    @Override
+    public void redo() {
+      if (placed) {
+        board.placeLetterTile(position, letterTile);
+      } else {
+        board.pickupLetterTile(position);
+      }
+    }
   }
 
+  /** Journal entry for special tiles placed on or picked up from a square. */
+  private static final class SpecialChange implements Journal.Change {
+    private final Board board;
+    private final Position position;
+    private final List<SpecialTile> specialTiles;
+    private final boolean placed;
+
+    SpecialChange(Board board, Position position, List<SpecialTile> specialTiles, boolean placed) {
+      this.board = board;
+      this.position = position;
+      this.specialTiles = specialTiles;
+      this.placed = placed;
+    }
+
+    @Override
+    public void undo() {
+      if (placed) {
+        specialTiles.forEach(specialTile -> board.removeSpecialTile(position, specialTile));
+      } else {
+        specialTiles.forEach(specialTile -> board.placeSpecialTile(position, specialTile));
+      }
+    }
+
+    @Override
+    public void redo() {
+      if (placed) {
+        specialTiles.forEach(specialTile -> board.placeSpecialTile(position, specialTile));
+      } else {
+        board.pickupSpecialTiles(position);
+      }
+    }
+  }
 }
@@ -0,0 +1,136 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+
+import java.util.function.IntFunction;
+
+/**
+ * Immutable view of a whole board at one point in time.
+ *
+ * The board publishes a new snapshot after every change. Snapshots are persistent: squares are
+ * kept in a 32-way trie indexed like the board's squares ({@code row * width + col}), and a new
+ * snapshot copies only the path from the root to the square that changed, sharing everything else
+ * with the previous one. Only squares holding tiles are stored; the rest are looked up from the
+ * board's fixed layout of multipliers. Publishing is therefore cheap for the game thread, and any
+ * number of reader threads can hold on to a snapshot and read it without copying or locking.
+ */
+public final class BoardSnapshot {
+  private static final int BITS = 5;
+  private static final int BRANCHING = 1 << BITS;
+  private static final int MASK = BRANCHING - 1;
+
+  private final int width;
+  private final int height;
+  /* Shift of the root level; the leaves are at shift 0. */
+  private final int shift;
+  private final Object[] root;
+  private final IntFunction<ImmutableSquare> emptySquares;
+  private final long zobristHash;
+
+  private BoardSnapshot(int width, int height, int shift, Object[] root,
+                        IntFunction<ImmutableSquare> emptySquares, long zobristHash) {
+    this.width = width;
+    this.height = height;
+    this.shift = shift;
+    this.root = root;
+    this.emptySquares = emptySquares;
+    this.zobristHash = zobristHash;
+  }
+
+  /**
+   * Creates a snapshot of a board with no tiles on it.
+   *
+   * @param width Width of the board.
+   * @param height Height of the board.
+   * @param emptySquares View of each square, by index, when it holds no tiles. Must be safe to
+   *                     call from any thread.
+   * @return Snapshot of the empty board.
+   */
+  static BoardSnapshot empty(int width, int height, IntFunction<ImmutableSquare> emptySquares) {
+    long size = (long) width * height;
+    int shift = 0;
+    while ((long) BRANCHING << shift < size) {
+      shift += BITS;
+    }
+    return new BoardSnapshot(width, height, shift, new Object[BRANCHING], emptySquares, 0);
+  }
+
+  /**
+   * Returns a snapshot that differs from this one in one square.
+   *
+   * @param index Index of the square that changed.
+   * @param square New view of the square, or null if it no longer holds any tiles.
+   * @param newZobristHash Hash of the board after the change.
+   * @return Updated snapshot, sharing all unchanged squares with this one.
+   */
+  BoardSnapshot with(int index, ImmutableSquare square, long newZobristHash) {
+    return new BoardSnapshot(width, height, shift, with(root, shift, index, square), emptySquares,
+            newZobristHash);
+  }
+
+  private static Object[] with(Object[] node, int level, int index, ImmutableSquare square) {
+    Object[] copy = node == null ? new Object[BRANCHING] : node.clone();
+    int slot = (index >>> level) & MASK;
+    if (level == 0) {
+      copy[slot] = square;
+    } else {
+      copy[slot] = with((Object[]) copy[slot], level - BITS, index, square);
+    }
+    return copy;
+  }
+
+  /**
+   * @return Number of columns on the board.
+   */
+  public int width() {
+    return width;
+  }
+
+  /**
+   * @return Number of rows on the board.
+   */
+  public int height() {
+    return height;
+  }
+
+  /**
+   * @return Zobrist hash of the board's tiles when the snapshot was taken.
+   */
+  public long zobristHash() {
+    return zobristHash;
+  }
+
+  /**
+   * Returns the square at the given position. The same instance is returned on every call.
+   *
+   * Requires {@code position} is on the board.
+   *
+   * @param position Position of the square.
+   * @return Immutable view of the square.
+   */
+  public ImmutableSquare square(Position position) {
+    return square(position.row, position.col);
+  }
+
+  /**
+   * Returns the square at the given row and column. The same instance is returned on every call.
+   *
+   * Requires {@code 0 <= row < height()} and {@code 0 <= col < width()}.
+   *
+   * @param row Row index.
+   * @param col Column index.
+   * @return Immutable view of the square.
+   */
+  public ImmutableSquare square(int row, int col) {
+    if (row < 0 || row >= height || col < 0 || col >= width) {
+      throw new IllegalArgumentException("Invalid position argument.");
+    }
+    int index = row * width + col;
+    Object[] node = root;
+    for (int level = shift; level > 0 && node != null; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    ImmutableSquare square = node == null ? null : (ImmutableSquare) node[index & MASK];
+    return square != null ? square : emptySquares.apply(index);
+  }
+}
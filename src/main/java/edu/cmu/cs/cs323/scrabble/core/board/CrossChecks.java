@@ -0,0 +1,132 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+/**
+ * Cross-check sets for the empty squares of a board.
+ *
+ * A tile placed as part of an across move also forms a down word with the tiles above and below
+ * it, so only some letters can legally go on that square in an across move; the same holds for
+ * down moves and the tiles to the left and right. For every square, this keeps both sets as 26-bit
+ * masks with bit {@code Letter.ordinal()} set for each allowed letter. A square with no
+ * perpendicular neighbors allows every letter.
+ *
+ * Placing or removing a tile only changes the cross-checks of the square itself and of the
+ * nearest empty square at each end of the row and column runs through it, so updates recompute at
+ * most five squares' worth of sets.
+ */
+final class CrossChecks {
+  static final int ALL_LETTERS = (1 << 26) - 1;
+
+  private final WordGraph graph;
+  private final int width;
+  private final int height;
+  /* Indexed like Board's squares: row * width + col. */
+  private final int[] across;
+  private final int[] down;
+
+  CrossChecks(WordGraph graph, int width, int height) {
+    this.graph = graph;
+    this.width = width;
+    this.height = height;
+    this.across = new int[width * height];
+    this.down = new int[width * height];
+  }
+
+  /**
+   * @return Letters allowed on the square in a move in the given direction. Meaningless for
+   *         occupied squares.
+   */
+  int allowed(int row, int col, boolean acrossMove) {
+    return acrossMove ? across[row * width + col] : down[row * width + col];
+  }
+
+  void recomputeAll(Board board) {
+    for (int r = 0; r < height; r++) {
+      for (int c = 0; c < width; c++) {
+        recompute(board, r, c);
+      }
+    }
+  }
+
+  /**
+   * Updates the squares affected by a tile being placed on or removed from {@code (row, col)}.
+   * Must be called after the board has changed.
+   */
+  void update(Board board, int row, int col) {
+    recompute(board, row, col);
+    recomputeEnd(board, row, col, -1, 0);
+    recomputeEnd(board, row, col, 1, 0);
+    recomputeEnd(board, row, col, 0, -1);
+    recomputeEnd(board, row, col, 0, 1);
+  }
+
+  /* Recomputes the first empty square past the run of tiles starting next to (row, col). */
+  private void recomputeEnd(Board board, int row, int col, int rowStep, int colStep) {
+    int r = row + rowStep;
+    int c = col + colStep;
+    while (board.isOccupied(r, c)) {
+      r += rowStep;
+      c += colStep;
+    }
+    if (board.isValidPosition(r, c)) {
+      recompute(board, r, c);
+    }
+  }
+
+  private void recompute(Board board, int row, int col) {
+    int index = row * width + col;
+    if (board.isOccupied(row, col)) {
+      across[index] = 0;
+      down[index] = 0;
+      return;
+    }
+    /* An across move forms a down word through the square, and vice versa. */
+    across[index] = allowedBetween(board, row, col, 1, 0);
+    down[index] = allowedBetween(board, row, col, 0, 1);
+  }
+
+  /*
+   * Letters that form a word with the tiles immediately before and after (row, col), stepping by
+   * (rowStep, colStep). Walks the tiles before the square through the graph once, then tries each
+   * letter that can follow them against the tiles after.
+   */
+  private int allowedBetween(Board board, int row, int col, int rowStep, int colStep) {
+    int r = row - rowStep;
+    int c = col - colStep;
+    while (board.isOccupied(r, c)) {
+      r -= rowStep;
+      c -= colStep;
+    }
+    boolean hasBefore = r != row - rowStep || c != col - colStep;
+    boolean hasAfter = board.isOccupied(row + rowStep, col + colStep);
+    if (!hasBefore && !hasAfter) {
+      return ALL_LETTERS;
+    }
+
+    int node = graph.root();
+    for (r += rowStep, c += colStep; r != row || c != col; r += rowStep, c += colStep) {
+      node = graph.child(node, board.letterCode(r, c));
+      if (node == WordGraph.NONE) {
+        return 0;
+      }
+    }
+
+    int allowed = 0;
+    for (int candidates = graph.childMask(node); candidates != 0; candidates &= candidates - 1) {
+      int letter = Integer.numberOfTrailingZeros(candidates);
+      int next = graph.child(node, letter);
+      r = row + rowStep;
+      c = col + colStep;
+      while (next != WordGraph.NONE && board.isOccupied(r, c)) {
+        next = graph.child(next, board.letterCode(r, c));
+        r += rowStep;
+        c += colStep;
+      }
+      if (next != WordGraph.NONE && graph.isTerminal(next)) {
+        allowed |= 1 << letter;
+      }
+    }
+    return allowed;
+  }
+}
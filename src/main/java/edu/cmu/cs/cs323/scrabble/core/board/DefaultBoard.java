@@ -8,6 +8,7 @@ import edu.cmu.cs.cs323.scrabble.core.board.square.StandardSquare;
 import edu.cmu.cs.cs323.scrabble.core.board.square.TripleLetterScoreSquare;
 import edu.cmu.cs.cs323.scrabble.core.board.square.TripleWordScoreSquare;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -57,6 +58,24 @@ public final class DefaultBoard {
         return board;
     }
 
+    /**
+     * Creates a layout with the default board's score modifiers, for building larger sparse boards.
+     * The 15x15 pattern repeats across the board in both directions.
+     *
+     * @return Multiplier layout of the default SWS board.
+     */
+    public static MultiplierLayout layout() {
+        int[] wordMultipliers = new int[WIDTH * HEIGHT];
+        int[] letterMultipliers = new int[WIDTH * HEIGHT];
+        Arrays.fill(wordMultipliers, 1);
+        Arrays.fill(letterMultipliers, 1);
+        doubleLetterPositions().forEach(p -> letterMultipliers[p.row * WIDTH + p.col] = 2);
+        tripleLetterPositions().forEach(p -> letterMultipliers[p.row * WIDTH + p.col] = 3);
+        doubleWordPositions().forEach(p -> wordMultipliers[p.row * WIDTH + p.col] = 2);
+        tripleWordPositions().forEach(p -> wordMultipliers[p.row * WIDTH + p.col] = 3);
+        return MultiplierLayout.tiled(WIDTH, HEIGHT, wordMultipliers, letterMultipliers);
+    }
+
     /**
      * @return All board positions containing double letter score modifiers.
      */
@@ -20,7 +20,22 @@ public enum Direction {
   }
 
   /**
-   * Returns the position next to this one, in 'this' direction.
+   * @return Change in row index for one step in this direction.
+   */
+  public int rowDelta() {
+    return rowDelta;
+  }
+
+  /**
+   * @return Change in column index for one step in this direction.
+   */
+  public int colDelta() {
+    return colDelta;
+  }
+
+  /**
+   * Returns the position next to this one, in 'this' direction. Positions on boards of up to
+   * {@link Position#CACHE_SIZE} squares on a side are shared, so stepping does not allocate.
    *
    * @param position
    * Starting position.
@@ -30,8 +45,8 @@ public enum Direction {
   Position adjacent(Position position) {
     int newRow = position.row + rowDelta;
     int newCol = position.col + colDelta;
-    if (newRow >= 0 || newCol >= 0) {
-      return new Position(newRow, newCol);
+    if (newRow >= 0 && newCol >= 0) {
+      return Position.of(newRow, newCol);
     }
     return null;
   }
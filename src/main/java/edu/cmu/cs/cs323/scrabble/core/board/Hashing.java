@@ -0,0 +1,23 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+/**
+ * Bit mixing shared by the hashes of words and boards: word fingerprints, Zobrist keys and the
+ * Bloom filter's second hash.
+ */
+public final class Hashing {
+  private Hashing() {
+  }
+
+  /**
+   * Applies the SplitMix64 finalizer, so that every bit of the result depends on every bit of the
+   * input and consecutive inputs give unrelated outputs.
+   *
+   * @param value Value to mix.
+   * @return Mixed value. Distinct inputs give distinct outputs.
+   */
+  public static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+    return value ^ (value >>> 31);
+  }
+}
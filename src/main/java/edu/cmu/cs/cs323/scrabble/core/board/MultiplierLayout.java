@@ -0,0 +1,72 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+/**
+ * Rule giving the score multipliers of every square on a board, without storing a square object
+ * for each one. Used by sparse boards, which only create squares that hold tiles.
+ *
+ * Implementations must be immutable, so that they can be read from any thread.
+ */
+public interface MultiplierLayout {
+
+  /**
+   * @param row Row index.
+   * @param col Column index.
+   * @return Coefficient for the word score modifier of the square.
+   */
+  int wordMultiplier(int row, int col);
+
+  /**
+   * @param row Row index.
+   * @param col Column index.
+   * @return Coefficient for the letter score modifier of the square.
+   */
+  int letterMultiplier(int row, int col);
+
+  /**
+   * @return Layout in which no square modifies scores.
+   */
+  static MultiplierLayout uniform() {
+    return new MultiplierLayout() {
+      @Override
+      public int wordMultiplier(int row, int col) {
+        return 1;
+      }
+
+      @Override
+      public int letterMultiplier(int row, int col) {
+        return 1;
+      }
+    };
+  }
+
+  /**
+   * Creates a layout that repeats a rectangular pattern across the board in both directions.
+   *
+   * @param patternWidth Number of columns in the pattern.
+   * @param patternHeight Number of rows in the pattern.
+   * @param wordMultipliers Word multiplier of each square of the pattern, in row-major order.
+   * @param letterMultipliers Letter multiplier of each square of the pattern, in row-major order.
+   * @return Tiled layout.
+   */
+  static MultiplierLayout tiled(int patternWidth, int patternHeight, int[] wordMultipliers,
+                                int[] letterMultipliers) {
+    int size = patternWidth * patternHeight;
+    if (patternWidth < 1 || patternHeight < 1
+            || wordMultipliers.length != size || letterMultipliers.length != size) {
+      throw new IllegalArgumentException("Pattern must have one multiplier per square.");
+    }
+    int[] word = wordMultipliers.clone();
+    int[] letter = letterMultipliers.clone();
+    return new MultiplierLayout() {
+      @Override
+      public int wordMultiplier(int row, int col) {
+        return word[(row % patternHeight) * patternWidth + col % patternWidth];
+      }
+
+      @Override
+      public int letterMultiplier(int row, int col) {
+        return letter[(row % patternHeight) * patternWidth + col % patternWidth];
+      }
+    };
+  }
+}
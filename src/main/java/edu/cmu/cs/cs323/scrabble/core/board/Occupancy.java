@@ -0,0 +1,161 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+/**
+ * Bitboard of which squares on a board hold letter tiles.
+ *
+ * Occupancy is stored twice: once as a bit mask per row (bit {@code col} set if the square is
+ * occupied) and once as a bit mask per column (bit {@code row} set). Each mask is an array of
+ * {@code long}s, so boards of any size are supported, but a standard 15x15 board needs only one
+ * {@code long} per row or column. Adjacency, contiguity and anchor queries along a row or column are
+ * then a few shifts, ANDs and ORs per 64 squares instead of one lookup per square.
+ */
+final class Occupancy {
+  private final int width;
+  private final int height;
+  /* Number of longs in one row mask and in one column mask. */
+  private final int rowWords;
+  private final int colWords;
+  /* rows[r * rowWords + w] holds columns 64w to 64w + 63 of row r; cols is the transpose. */
+  private final long[] rows;
+  private final long[] cols;
+  private int occupiedCount;
+
+  Occupancy(int width, int height) {
+    this.width = width;
+    this.height = height;
+    this.rowWords = words(width);
+    this.colWords = words(height);
+    this.rows = new long[height * rowWords];
+    this.cols = new long[width * colWords];
+  }
+
+  /**
+   * @param bits Number of bits in a mask.
+   * @return Number of longs needed to hold the mask.
+   */
+  static int words(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  void set(int row, int col) {
+    if (!isOccupied(row, col)) {
+      rows[row * rowWords + (col >>> 6)] |= 1L << col;
+      cols[col * colWords + (row >>> 6)] |= 1L << row;
+      occupiedCount++;
+    }
+  }
+
+  void clear(int row, int col) {
+    if (isOccupied(row, col)) {
+      rows[row * rowWords + (col >>> 6)] &= ~(1L << col);
+      cols[col * colWords + (row >>> 6)] &= ~(1L << row);
+      occupiedCount--;
+    }
+  }
+
+  /**
+   * @return True if the square is on the board and occupied. Squares off the board are empty.
+   */
+  boolean isOccupied(int row, int col) {
+    if (row < 0 || row >= height || col < 0 || col >= width) {
+      return false;
+    }
+    return (rows[row * rowWords + (col >>> 6)] & (1L << col)) != 0;
+  }
+
+  boolean isEmpty() {
+    return occupiedCount == 0;
+  }
+
+  /**
+   * @return True if any of the four squares next to {@code (row, col)} is occupied.
+   */
+  boolean hasOccupiedNeighbor(int row, int col) {
+    return isOccupied(row, col - 1) || isOccupied(row, col + 1)
+            || isOccupied(row - 1, col) || isOccupied(row + 1, col);
+  }
+
+  /**
+   * @return Number of empty squares in row {@code row} from column {@code from} to {@code to}, inclusive.
+   */
+  int emptyInRow(int row, int from, int to) {
+    return (to - from + 1) - countRange(rows, row * rowWords, from, to);
+  }
+
+  /**
+   * @return Number of empty squares in column {@code col} from row {@code from} to {@code to}, inclusive.
+   */
+  int emptyInColumn(int col, int from, int to) {
+    return (to - from + 1) - countRange(cols, col * colWords, from, to);
+  }
+
+  /**
+   * Computes the anchors of a row: the empty squares that have an occupied square directly to the
+   * left, right, above or below them.
+   *
+   * @param row Row index.
+   * @param into Receives the anchor mask, bit {@code col} set for each anchor; at least
+   *             {@code words(width)} long.
+   */
+  void rowAnchors(int row, long[] into) {
+    anchors(rows, row, height, rowWords, width, into);
+  }
+
+  /**
+   * Computes the anchors of a column, as in {@link #rowAnchors}, with bit {@code row} set for each.
+   *
+   * @param col Column index.
+   * @param into Receives the anchor mask; at least {@code words(height)} long.
+   */
+  void columnAnchors(int col, long[] into) {
+    anchors(cols, col, width, colWords, height, into);
+  }
+
+  /*
+   * For line `line` of `lines` parallel lines of `length` squares: the anchors are the empty squares
+   * whose neighbor along the line (bit shifted by one, carrying between words) or whose neighbor in
+   * the previous or next line (same bit) is occupied.
+   */
+  private static void anchors(long[] masks, int line, int lines, int words, int length,
+                              long[] into) {
+    int base = line * words;
+    for (int w = 0; w < words; w++) {
+      long occupied = masks[base + w];
+      long neighbors = (occupied << 1) | (occupied >>> 1);
+      if (w > 0) {
+        neighbors |= masks[base + w - 1] >>> 63;
+      }
+      if (w + 1 < words) {
+        neighbors |= masks[base + w + 1] << 63;
+      }
+      if (line > 0) {
+        neighbors |= masks[base - words + w];
+      }
+      if (line + 1 < lines) {
+        neighbors |= masks[base + words + w];
+      }
+      into[w] = neighbors & ~occupied & validBits(w, length);
+    }
+  }
+
+  private static int countRange(long[] masks, int base, int from, int to) {
+    int count = 0;
+    for (int w = from >>> 6; w <= to >>> 6; w++) {
+      long range = -1L;
+      if (w == from >>> 6) {
+        range &= -1L << from;
+      }
+      if (w == to >>> 6) {
+        range &= -1L >>> (63 - (to & 63));
+      }
+      count += Long.bitCount(masks[base + w] & range);
+    }
+    return count;
+  }
+
+  /* Mask of the bits of word `w` that correspond to squares on a line of `length` squares. */
+  private static long validBits(int w, int length) {
+    int bits = length - w * 64;
+    return bits >= 64 ? -1L : (1L << bits) - 1;
+  }
+}
@@ -2,7 +2,6 @@ package edu.cmu.cs.cs323.scrabble.core.board;
 
 import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -10,10 +9,32 @@ import java.util.List;
  * This is a representation of the played word itself, just the sequence of letters and associated
  * value.
  *
+ * Letters are stored as their codes ({@code Letter.ordinal()}). Words of up to
+ * {@value #MAX_PACKED_LENGTH} letters, which is nearly all of them, are packed five bits per letter
+ * into a single {@code long}; longer words fall back to a {@code byte[]}. A 64-bit fingerprint of
+ * the letters is computed once, up front, so hash tables, Bloom filters and caches can use it
+ * without walking the letters again, and nothing here builds a {@code String} unless
+ * {@link #toString()} is called.
+ *
+ * Two PlayedWords are equal if they spell the same word, whatever their scores.
+ *
  * PlayedWord is an immutable class.
  */
 public final class PlayedWord {
-    private final List<Letter> letters;
+    /** Longest word whose letters are packed into a {@code long}. */
+    public static final int MAX_PACKED_LENGTH = 12;
+
+    private static final Letter[] LETTERS = Letter.values();
+    private static final int BITS_PER_LETTER = 5;
+    private static final long LETTER_MASK = (1L << BITS_PER_LETTER) - 1;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /* Letter i is in bits [5i, 5i + 5) of packed when codes is null. */
+    private final long packed;
+    private final byte[] codes;
+    private final int length;
+    private final long fingerprint;
     private final int score;
 
   /**
@@ -26,8 +47,78 @@ public final class PlayedWord {
    * Point value of the word when played.
    */
     public PlayedWord(List<Letter> letters, int score) {
-        this.letters = new ArrayList<>(letters);
+        this(codesOf(letters), 0, letters.size(), score);
+    }
+
+  /**
+   * Constructor. Instantiates a word from letter codes, without going through {@link Letter}.
+   *
+   * @param letterCodes
+   * Array holding the {@code Letter.ordinal()} of each letter.
+   * @param from
+   * Index of the word's first letter in {@code letterCodes}.
+   * @param length
+   * Number of letters in the word.
+   * @param score
+   * Point value of the word when played.
+   */
+    public PlayedWord(int[] letterCodes, int from, int length, int score) {
+        if (from < 0 || length < 0 || from + length > letterCodes.length) {
+            throw new IllegalArgumentException("Invalid range of letter codes.");
+        }
+        this.length = length;
         this.score = score;
+        long packedLetters = 0;
+        byte[] longCodes = length > MAX_PACKED_LENGTH ? new byte[length] : null;
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < length; i++) {
+            int code = letterCodes[from + i];
+            if (code < 0 || code >= LETTERS.length) {
+                throw new IllegalArgumentException("Invalid letter code.");
+            }
+            if (longCodes == null) {
+                packedLetters |= (long) code << (i * BITS_PER_LETTER);
+            } else {
+                longCodes[i] = (byte) code;
+            }
+            hash = fingerprintStep(hash, code);
+        }
+        this.packed = packedLetters;
+        this.codes = longCodes;
+        this.fingerprint = Hashing.mix(hash);
+    }
+
+    /**
+     * Computes the fingerprint of a sequence of letter codes, equal to {@link #fingerprint()} of a
+     * word with those letters. Used to build tables that are looked up by fingerprint.
+     *
+     * @param letterCodes Array holding the {@code Letter.ordinal()} of each letter.
+     * @param from Index of the first letter.
+     * @param to Index one past the last letter.
+     * @return 64-bit fingerprint of the letters.
+     */
+    public static long fingerprint(byte[] letterCodes, int from, int to) {
+        long hash = FNV_OFFSET;
+        for (int i = from; i < to; i++) {
+            hash = fingerprintStep(hash, letterCodes[i]);
+        }
+        return Hashing.mix(hash);
+    }
+
+    /**
+     * Computes the fingerprint of a word written as text, in either case, equal to
+     * {@link #fingerprint()} of a word with those letters. Text with characters other than letters
+     * does not spell any PlayedWord, but may still share a fingerprint with one.
+     *
+     * @param text Word to fingerprint, such as a line of a dictionary file.
+     * @return 64-bit fingerprint of the letters.
+     */
+    public static long fingerprint(CharSequence text) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < text.length(); i++) {
+            hash = fingerprintStep(hash, Character.toUpperCase(text.charAt(i)) - 'A');
+        }
+        return Hashing.mix(hash);
     }
 
     /**
@@ -39,6 +130,137 @@ public final class PlayedWord {
         return score;
     }
 
+    /**
+     * Returns the number of letters in the word.
+     *
+     * @return Length of the word.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the letter at the given index of the word, without copying the word.
+     *
+     * Requires {@code 0 <= index < length()}.
+     *
+     * @param index Index of the letter, starting at 0 for the first letter.
+     * @return Letter at {@code index}.
+     */
+    public Letter letterAt(int index) {
+        return LETTERS[letterCode(index)];
+    }
+
+    /**
+     * Returns the code of the letter at the given index of the word.
+     *
+     * Requires {@code 0 <= index < length()}.
+     *
+     * @param index Index of the letter, starting at 0 for the first letter.
+     * @return {@code Letter.ordinal()} of the letter at {@code index}.
+     */
+    public int letterCode(int index) {
+        if (index < 0 || index >= length) {
+            throw new IllegalArgumentException("Invalid letter index.");
+        }
+        if (codes != null) {
+            return codes[index];
+        }
+        return (int) ((packed >>> (index * BITS_PER_LETTER)) & LETTER_MASK);
+    }
+
+    /**
+     * @return True if the word's letters are packed into {@link #packedLetters()}.
+     */
+    public boolean isPacked() {
+        return codes == null;
+    }
+
+    /**
+     * Returns the packed letters of a word of at most {@value #MAX_PACKED_LENGTH} letters: the code
+     * of letter {@code i} is in bits {@code 5i} to {@code 5i + 4}, and the unused high bits are zero.
+     * Two packed words of the same length spell the same word exactly when these are equal.
+     *
+     * Requires {@code isPacked()}.
+     *
+     * @return Letter codes packed into a long.
+     */
+    public long packedLetters() {
+        if (codes != null) {
+            throw new IllegalArgumentException("Word is too long to be packed.");
+        }
+        return packed;
+    }
+
+    /**
+     * Returns a 64-bit hash of the word's letters, computed when the word was created. Words that
+     * spell the same word have the same fingerprint.
+     *
+     * @return Fingerprint of the letters.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Checks whether a piece of text spells this word, ignoring case, without creating a String.
+     *
+     * @param text Text to compare against, such as a line of a dictionary file.
+     * @return True if {@code text} is exactly the letters of this word.
+     */
+    public boolean spells(CharSequence text) {
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toUpperCase(text.charAt(i)) - 'A' != letterCode(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the letters of the word to a builder, for logging without an intermediate String.
+     *
+     * @param builder Builder to append to.
+     * @return {@code builder}.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('A' + letterCode(i)));
+        }
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PlayedWord)) {
+            return false;
+        }
+        PlayedWord word = (PlayedWord) other;
+        if (length != word.length || fingerprint != word.fingerprint) {
+            return false;
+        }
+        if (codes == null) {
+            return packed == word.packed;
+        }
+        for (int i = 0; i < length; i++) {
+            if (codes[i] != word.codes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+
     /**
      * Returns a string representing the sequence of letters forming the word.
      *
@@ -46,11 +268,19 @@ public final class PlayedWord {
      */
     @Override
     public String toString() {
-        String str = "";
-        for (Letter letter : letters) {
-            str += letter.toString();
+        return appendTo(new StringBuilder(length)).toString();
+    }
+
+    private static int[] codesOf(List<Letter> letters) {
+        int[] letterCodes = new int[letters.size()];
+        for (int i = 0; i < letterCodes.length; i++) {
+            letterCodes[i] = letters.get(i).ordinal();
         }
-        return str;
+        return letterCodes;
     }
 
+    /* FNV-1a over letter codes, offset by one so that a leading A still changes the hash. */
+    private static long fingerprintStep(long hash, int code) {
+        return (hash ^ (code + 1)) * FNV_PRIME;
+    }
 }
@@ -1,14 +1,51 @@
 package edu.cmu.cs.cs323.scrabble.core.board;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * Represents an ordered pair of a row and column.
+ *
+ * Positions are immutable, so the ones for every square of a board up to {@link #CACHE_SIZE}
+ * squares on a side are created once and shared. Prefer {@link #of(int, int)} to the constructor
+ * in code that runs often, such as board scans and move search.
  */
 public final class Position implements Comparable<Position> {
+  /** Positions with row and column below this are cached by {@link #of(int, int)}. */
+  public static final int CACHE_SIZE = 64;
+
+  private static final Position[] CACHE = new Position[CACHE_SIZE * CACHE_SIZE];
+
+  static {
+    for (int r = 0; r < CACHE_SIZE; r++) {
+      for (int c = 0; c < CACHE_SIZE; c++) {
+        CACHE[r * CACHE_SIZE + c] = new Position(r, c);
+      }
+    }
+  }
+
+  /** Orders positions by row, then by column, as they are read on the board. */
+  public static final Comparator<Position> ROW_MAJOR = (a, b) ->
+          a.row != b.row ? Integer.compare(a.row, b.row) : Integer.compare(a.col, b.col);
+
   public final int row;
   public final int col;
 
+  /**
+   * Returns the position at the given row and column. No new object is created for positions on a
+   * board of up to {@link #CACHE_SIZE} squares on a side.
+   *
+   * @param row Row index of position.
+   * @param col Column Index of position.
+   * @return Position at {@code (row, col)}.
+   */
+  public static Position of(int row, int col) {
+    if (row >= 0 && row < CACHE_SIZE && col >= 0 && col < CACHE_SIZE) {
+      return CACHE[row * CACHE_SIZE + col];
+    }
+    return new Position(row, col);
+  }
+
   /**
    * Constructor. Represents a point at the given row and column indicies.
    *
@@ -25,6 +62,9 @@ public final class Position implements Comparable<Position> {
 
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
     Position otherPosition = (Position) other;
     return this.row == otherPosition.row && this.col == otherPosition.col;
   }
@@ -42,7 +82,9 @@ public final class Position implements Comparable<Position> {
    */
   public double distance(Position other) {
     // Euclidian distance formula
-    return Math.sqrt(Math.pow(row - other.row, 2) + Math.pow(col - other.col, 2));
+    int rowDistance = row - other.row;
+    int colDistance = col - other.col;
+    return Math.sqrt(rowDistance * rowDistance + colDistance * colDistance);
   }
 
   /**
@@ -51,22 +93,26 @@ public final class Position implements Comparable<Position> {
    * @return Euclidian distance from the origin.
      */
   public double distance() {
-    return distance(new Position(0,0));
+    return Math.sqrt(squaredDistance());
   };
 
 
   /**
-   * Compares two positions based on their distance from the origin.
+   * Compares two positions based on their distance from the origin. Positions the same distance
+   * from the origin are ordered by row.
    *
    * @param other other position to compare this one to.
    * @return 0 if positions are equal, < 0 if {@code other} > {@code this}, > 0 if {@code this} > {@code other}
    */
   @Override
   public int compareTo(Position other) {
-    if (equals(other)) {
-      return 0;
-    }
-    return distance() < other.distance() ? -1:1;
+    /* Squared distances are exact integers, and order the same way as the distances themselves. */
+    int byDistance = Integer.compare(squaredDistance(), other.squaredDistance());
+    return byDistance != 0 ? byDistance : Integer.compare(row, other.row);
+  }
+
+  private int squaredDistance() {
+    return row * row + col * col;
   }
 
 
@@ -0,0 +1,65 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.MultiplierSquare;
+import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Square store that only keeps squares holding tiles, for very large boards.
+ *
+ * Multipliers come from a {@link MultiplierLayout}. A square object is created when a tile is
+ * placed on it and dropped again once it is empty, so memory is proportional to the number of
+ * tiles on the board rather than to its area.
+ */
+final class SparseSquareStore implements SquareStore {
+  private final int width;
+  private final MultiplierLayout layout;
+  private final Map<Integer, Square> squares = new HashMap<>();
+
+  SparseSquareStore(int width, MultiplierLayout layout) {
+    this.width = width;
+    this.layout = layout;
+  }
+
+  @Override
+  public Square get(int index) {
+    Square square = squares.get(index);
+    return square != null ? square
+            : Board.EmptySquareViews.of(wordMultiplier(index), letterMultiplier(index));
+  }
+
+  @Override
+  public Square writable(int index) {
+    return squares.computeIfAbsent(index,
+            i -> new MultiplierSquare(wordMultiplier(i), letterMultiplier(i)));
+  }
+
+  @Override
+  public void release(int index) {
+    Square square = squares.get(index);
+    if (square != null && !square.hasLetterTile() && !square.hasSpecialTiles()) {
+      squares.remove(index);
+    }
+  }
+
+  @Override
+  public int wordMultiplier(int index) {
+    return layout.wordMultiplier(index / width, index % width);
+  }
+
+  @Override
+  public int letterMultiplier(int index) {
+    return layout.letterMultiplier(index / width, index % width);
+  }
+
+  @Override
+  public void forEachStored(IntConsumer action) {
+    for (int index : new TreeSet<>(squares.keySet())) {
+      action.accept(index);
+    }
+  }
+}
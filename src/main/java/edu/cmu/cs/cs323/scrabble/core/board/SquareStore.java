@@ -0,0 +1,44 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Storage for the squares of a board, addressed by index ({@code row * width + col}).
+ *
+ * Reads and writes are separate so that a store may hand out a shared, read-only view for squares
+ * that hold no tiles and only create a real square when a tile is put on it.
+ */
+interface SquareStore {
+
+  /**
+   * @return The square at {@code index}, possibly a read-only view if it holds no tiles.
+   */
+  Square get(int index);
+
+  /**
+   * @return The square at {@code index}, which may be modified.
+   */
+  Square writable(int index);
+
+  /**
+   * Tells the store that the square at {@code index} may have become empty, so it can be dropped.
+   */
+  void release(int index);
+
+  /**
+   * @return Word multiplier of the square at {@code index}. Safe to call from any thread.
+   */
+  int wordMultiplier(int index);
+
+  /**
+   * @return Letter multiplier of the square at {@code index}. Safe to call from any thread.
+   */
+  int letterMultiplier(int index);
+
+  /**
+   * Calls {@code action} with the index of every square that may hold tiles, in increasing order.
+   */
+  void forEachStored(IntConsumer action);
+}
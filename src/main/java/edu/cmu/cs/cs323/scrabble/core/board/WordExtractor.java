@@ -0,0 +1,241 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the words formed by a set of newly placed tiles, in one pass over the board.
+ *
+ * The main word is read by a single walk along the line of the placement, and each cross word by
+ * a single walk through one placed tile. Letters, scores and start squares are written into
+ * primitive arrays owned by the extractor, which grow as needed and are reused by the next call to
+ * {@link #extract}, so extracting the words of a move allocates nothing once the buffers are large
+ * enough. {@link PlayedWord} objects are only created if asked for.
+ *
+ * An extractor is not thread-safe; each thread should use its own.
+ */
+public final class WordExtractor {
+  /* Letter codes of every word, back to back. Word i is letters[offsets[i], offsets[i + 1]). */
+  private int[] letters = new int[64];
+  private int[] offsets = new int[9];
+  private int[] scores = new int[8];
+  private int[] startRows = new int[8];
+  private int[] startCols = new int[8];
+  private boolean[] across = new boolean[8];
+  private int wordCount = 0;
+  private int totalScore = 0;
+
+  /**
+   * Finds the words formed by tiles that have just been placed on a board, replacing the results
+   * of any earlier call.
+   *
+   * If more than one tile was placed, the first word is the main word along the line of the
+   * placement, and the rest are the cross words through each placed tile. If only one tile was
+   * placed, the across word comes before the down word. Words of one letter are not counted.
+   *
+   * Requires every position in {@code placed} is on the board and holds a letter tile.
+   *
+   * @param board Board the tiles were placed on.
+   * @param placed Positions of the tiles placed.
+   * @return Number of words found.
+   */
+  public int extract(Board board, Collection<Position> placed) {
+    wordCount = 0;
+    totalScore = 0;
+    offsets[0] = 0;
+    if (placed.isEmpty()) {
+      return 0;
+    }
+
+    Position first = null;
+    boolean sameRow = true;
+    for (Position position : placed) {
+      if (!board.isValidPosition(position)) {
+        throw new IllegalArgumentException("Letter placements incompatable with board argument.");
+      }
+      if (!board.isOccupied(position.row, position.col)) {
+        throw new IllegalArgumentException("No tile exists at given position.");
+      }
+      if (first == null) {
+        first = position;
+      } else if (position.row != first.row) {
+        sameRow = false;
+      }
+    }
+
+    if (placed.size() == 1) {
+      /* If only one tile is being placed, there is really no orientation, so get either word. */
+      addWord(board, first.row, first.col, true);
+      addWord(board, first.row, first.col, false);
+    } else {
+      addWord(board, first.row, first.col, sameRow);
+      for (Position position : placed) {
+        addWord(board, position.row, position.col, !sameRow);
+      }
+    }
+    return wordCount;
+  }
+
+  /**
+   * @return Number of words found by the last call to {@link #extract}.
+   */
+  public int wordCount() {
+    return wordCount;
+  }
+
+  /**
+   * @return Sum of the scores of all words found by the last call to {@link #extract}.
+   */
+  public int totalScore() {
+    return totalScore;
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return Points the word is worth.
+   */
+  public int score(int word) {
+    checkWord(word);
+    return scores[word];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return Number of letters in the word.
+   */
+  public int length(int word) {
+    checkWord(word);
+    return offsets[word + 1] - offsets[word];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()} and {@code 0 <= index < length(word)}.
+   *
+   * @param word Index of the word.
+   * @param index Index of the letter within the word.
+   * @return {@code Letter.ordinal()} of the letter.
+   */
+  public int letterCode(int word, int index) {
+    if (index < 0 || index >= length(word)) {
+      throw new IllegalArgumentException("Invalid letter index.");
+    }
+    return letters[offsets[word] + index];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return Row of the word's first letter.
+   */
+  public int startRow(int word) {
+    checkWord(word);
+    return startRows[word];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return Column of the word's first letter.
+   */
+  public int startCol(int word) {
+    checkWord(word);
+    return startCols[word];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return True if the word reads across, false if it reads down.
+   */
+  public boolean isAcross(int word) {
+    checkWord(word);
+    return across[word];
+  }
+
+  /**
+   * Requires {@code 0 <= word < wordCount()}.
+   *
+   * @param word Index of the word.
+   * @return The word as a PlayedWord.
+   */
+  public PlayedWord word(int word) {
+    checkWord(word);
+    return new PlayedWord(letters, offsets[word], length(word), scores[word]);
+  }
+
+  /**
+   * @return All words found by the last call to {@link #extract}, as PlayedWords.
+   */
+  public List<PlayedWord> words() {
+    List<PlayedWord> words = new ArrayList<>(wordCount);
+    for (int i = 0; i < wordCount; i++) {
+      words.add(word(i));
+    }
+    return words;
+  }
+
+  /*
+   * Appends the word through (row, col) in the given direction, unless it is a single letter. The
+   * walk back finds the start of the word; the walk forward collects the letters and the score.
+   */
+  private void addWord(Board board, int row, int col, boolean acrossWord) {
+    int rowStep = acrossWord ? 0 : 1;
+    int colStep = acrossWord ? 1 : 0;
+    while (board.isOccupied(row - rowStep, col - colStep)) {
+      row -= rowStep;
+      col -= colStep;
+    }
+
+    int start = offsets[wordCount];
+    int end = start;
+    int scoreAccumulator = 0;
+    int scoreMultiplier = 1;
+    for (int r = row, c = col; board.isOccupied(r, c); r += rowStep, c += colStep) {
+      Square square = board.squareAt(r, c);
+      LetterTile tile = square.getLetterTile();
+      if (end == letters.length) {
+        letters = Arrays.copyOf(letters, letters.length * 2);
+      }
+      letters[end++] = tile.letter().ordinal();
+      scoreAccumulator += tile.points() * square.letterMultiplier();
+      scoreMultiplier *= square.wordMultiplier();
+    }
+
+    /* In scrabble, a word must have at least two letters. */
+    if (end - start < 2) {
+      return;
+    }
+    if (wordCount == scores.length) {
+      int capacity = scores.length * 2;
+      offsets = Arrays.copyOf(offsets, capacity + 1);
+      scores = Arrays.copyOf(scores, capacity);
+      startRows = Arrays.copyOf(startRows, capacity);
+      startCols = Arrays.copyOf(startCols, capacity);
+      across = Arrays.copyOf(across, capacity);
+    }
+    scores[wordCount] = scoreAccumulator * scoreMultiplier;
+    startRows[wordCount] = row;
+    startCols[wordCount] = col;
+    across[wordCount] = acrossWord;
+    totalScore += scores[wordCount];
+    offsets[++wordCount] = end;
+  }
+
+  private void checkWord(int word) {
+    if (word < 0 || word >= wordCount) {
+      throw new IllegalArgumentException("Invalid word index.");
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+
+/**
+ * Zobrist keys for board positions.
+ *
+ * A position's hash is the XOR of one pseudo-random 64-bit key per tile on the board, so placing or
+ * removing a tile updates the hash with a single XOR, and two boards with the same tiles on the
+ * same squares have the same hash no matter what order the tiles were played in. Keys are computed
+ * by mixing the square index with what is on it, rather than looked up in a table, so boards of any
+ * size are supported and keys are the same in every JVM.
+ */
+final class Zobrist {
+  private static final long LETTER_SEED = 0x5DEECE66DL;
+  private static final long SPECIAL_SEED = 0x2545F4914F6CDD1DL;
+  private static final long RACK_SEED = 0x9FB21C651E98DF25L;
+
+  private Zobrist() {
+  }
+
+  /**
+   * @return Key for a letter tile with the given letter code on the square at {@code index}.
+   */
+  static long letterKey(int index, int letterCode) {
+    return Hashing.mix(LETTER_SEED + index * 32L + letterCode);
+  }
+
+  /**
+   * @return Key for a special tile on the square at {@code index}. Tiles of the same kind with the
+   *         same owner share a key, and at most one of them can be on a square.
+   */
+  static long specialKey(int index, SpecialTile specialTile) {
+    long identity = specialTile.toString().hashCode() * 31L + specialTile.owner().name().hashCode();
+    return Hashing.mix(Hashing.mix(SPECIAL_SEED + index) + identity);
+  }
+
+  /**
+   * @return Key for holding at least {@code copies} tiles with the given letter code in a rack.
+   */
+  static long rackKey(int letterCode, int copies) {
+    return Hashing.mix(RACK_SEED + letterCode * 32L + copies);
+  }
+}
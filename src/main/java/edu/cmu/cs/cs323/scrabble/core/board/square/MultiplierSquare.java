@@ -0,0 +1,31 @@
+package edu.cmu.cs.cs323.scrabble.core.board.square;
+
+/**
+ * Represents a square with arbitrary multipliers, such as one on a custom board whose layout comes
+ * from a rule rather than from the standard square types.
+ */
+public class MultiplierSquare extends SquareImpl {
+  private final int wordMultiplier;
+  private final int letterMultiplier;
+
+  /**
+   * Constructor. Creates an empty square with the given multipliers.
+   *
+   * @param wordMultiplier Coefficient for word score modifier.
+   * @param letterMultiplier Coefficient for letter score modifier.
+   */
+  public MultiplierSquare(int wordMultiplier, int letterMultiplier) {
+    this.wordMultiplier = wordMultiplier;
+    this.letterMultiplier = letterMultiplier;
+  }
+
+  @Override
+  public int letterMultiplier() {
+    return letterMultiplier;
+  }
+
+  @Override
+  public int wordMultiplier() {
+    return wordMultiplier;
+  }
+}
@@ -0,0 +1,281 @@
+package edu.cmu.cs.cs323.scrabble.core.bot;
+
+import edu.cmu.cs.cs323.scrabble.core.board.BoardSnapshot;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+import edu.cmu.cs.cs323.scrabble.core.engine.MonteCarloSimulator;
+import edu.cmu.cs.cs323.scrabble.core.engine.MoveEvaluator;
+import edu.cmu.cs.cs323.scrabble.core.engine.SearchResult;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGame;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGameListener;
+import edu.cmu.cs.cs323.scrabble.core.game.Turn;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.StealScoreSpecialTile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays a player's turns in a game without a person: a computer opponent.
+ *
+ * The computer player listens to the game, and when a turn of its player begins it asks its
+ * executor to play that turn. Playing a turn searches for the best scoring moves within the time
+ * budget, places one of them (or swaps the whole rack if there is none), and ends the turn. If its
+ * strength allows, it also either places a special tile it holds next to the words on the board,
+ * where an opponent is likely to trigger it, or buys one if it holds none. Each turn is played at
+ * most once, however many times the game reports changes to it.
+ *
+ * The game is not thread-safe, so the executor must run turns on the thread that drives the game,
+ * such as {@code SwingUtilities::invokeLater} for a game shown in the GUI, or a single-threaded
+ * executor that owns a game with no GUI. An executor that runs tasks in the calling thread also
+ * works for players that do not simulate, but then a game between computer players is played to
+ * the end inside {@link SWSGame#setupGame()}.
+ *
+ * Moves are found with {@link SWSGame#bestMoves(int, MoveEvaluator, long, TimeUnit)}, whose
+ * search and buffers belong to the game and are reused for every turn of every computer player in
+ * it, so a turn costs little more than the search itself. The strongest computer players then
+ * spend what is left of the budget simulating the moves found, each with its own
+ * {@link MonteCarloSimulator} over the game's lexicon, and play the one with the best average
+ * outcome. Simulations run on other threads, on a snapshot of the position, and the rest of the
+ * turn is then handed back to the executor, so the game's thread is not held up while they run.
+ */
+public final class ComputerPlayer implements SWSGameListener {
+  /*
+   * The only special tile bought. Traps are seldom triggered, and a steal score tile costs nothing
+   * but its price when its owner triggers it, so it is the one worth playing next to the best
+   * squares on the board.
+   */
+  private static final String SPECIAL_TILE = StealScoreSpecialTile.identifier();
+  /* Turns played out after each candidate move: the opponent's reply and this player's next move. */
+  private static final int PLIES = 2;
+
+  private final SWSGame game;
+  private final Player player;
+  private final Strength strength;
+  private final long budgetNanos;
+  private final Executor executor;
+  /* Null unless the strength simulates. */
+  private final MonteCarloSimulator simulator;
+  private final Random random = new Random();
+  private final Map<Player, Integer> opponentScores = new HashMap<>();
+  private Turn lastTurn = null;
+  private boolean gameOver = false;
+
+  /**
+   * Constructor. Creates a computer player that plays the given player's turns, and adds it as a
+   * listener to the game.
+   *
+   * @param game Game to play in.
+   * @param player Player whose turns to play. Should be one of the game's players.
+   * @param strength How well to play.
+   * @param budget Time allowed to search for each move.
+   * @param unit Unit of {@code budget}.
+   * @param executor Runs each turn, on the thread that drives the game.
+   * @throws IllegalArgumentException If the strength simulates moves and the game has no lexicon.
+   */
+  public ComputerPlayer(SWSGame game, Player player, Strength strength, long budget, TimeUnit unit,
+                        Executor executor) {
+    if (game == null || player == null || strength == null || unit == null || executor == null) {
+      throw new IllegalArgumentException("Arguments must be non-null.");
+    }
+    if (budget < 0) {
+      throw new IllegalArgumentException("Time budget must be non-negative.");
+    }
+    if (strength.simulations() > 0 && game.lexicon() == null) {
+      throw new IllegalArgumentException("Game has no lexicon to simulate moves with.");
+    }
+    this.game = game;
+    this.player = player;
+    this.strength = strength;
+    this.budgetNanos = unit.toNanos(budget);
+    this.executor = executor;
+    this.simulator = strength.simulations() > 0
+            ? new MonteCarloSimulator(game.lexicon(), PLIES) : null;
+    game.addSWSGameListener(this);
+  }
+
+  /**
+   * @return Player whose turns this computer player plays.
+   */
+  public Player player() {
+    return player;
+  }
+
+  /**
+   * Returns the throughput of this computer player's simulations.
+   *
+   * @return Simulations finished per second of simulating so far, or 0 if it does not simulate.
+   */
+  public double simulationsPerSecond() {
+    return simulator == null ? 0 : simulator.simulationsPerSecond();
+  }
+
+  @Override
+  public void squareChanged(Position position) {
+  }
+
+  @Override
+  public void playerChanged(Player player) {
+    if (player != this.player) {
+      opponentScores.put(player, player.getScore());
+    }
+  }
+
+  @Override
+  public void turnChanged(Turn turn) {
+    /* The game reports every change to a turn, including the ones this player makes while playing
+     * it, so only the first report of each of this player's turns starts a play. */
+    if (!gameOver && turn != lastTurn && turn.canTakeEndAction(player)) {
+      lastTurn = turn;
+      executor.execute(() -> play(turn));
+    }
+  }
+
+  @Override
+  public void gameEnded(Player winner) {
+    gameOver = true;
+  }
+
+  @Override
+  public void errorOccurred(Player target, String message) {
+  }
+
+  /* Plays a turn, unless the game has moved on since it was scheduled. */
+  private void play(Turn turn) {
+    if (!isCurrent(turn)) {
+      return;
+    }
+    long start = System.nanoTime();
+    SearchResult result = game.bestMoves(strength.candidates(), MoveEvaluator.score(),
+            budgetNanos, TimeUnit.NANOSECONDS);
+    if (result.size() > 0 && strength.simulations() > 0) {
+      long remaining = Math.max(0, budgetNanos - (System.nanoTime() - start));
+      BoardSnapshot board = game.boardSnapshot();
+      List<LetterTile> rack = new ArrayList<>(player.letterTiles());
+      List<LetterTile> unseen = game.unseenTiles(player);
+      /* Simulating takes most of the budget, so it runs off the game's thread, which only gets the
+       * chosen move back to play. If simulating fails, the failure is reported and the highest
+       * scoring move is played instead, so the game does not stall. */
+      CompletableFuture.supplyAsync(() -> bestSimulated(board, rack, unseen, result, remaining))
+              .whenComplete((best, failure) -> {
+                if (failure != null) {
+                  failure.printStackTrace();
+                }
+                executor.execute(() -> finish(turn, result.move(failure == null ? best : 0)));
+              });
+    } else if (result.size() > 0) {
+      finish(turn, result.move(random.nextInt(result.size())));
+    } else {
+      finish(turn, null);
+    }
+  }
+
+  /* Whether the turn is still this player's to play. */
+  private boolean isCurrent(Turn turn) {
+    return !gameOver && game.currentPlayer() == player && turn.canTakeEndAction(player);
+  }
+
+  /*
+   * Places the chosen move, or swaps the whole rack if there is none, then plays a special tile if
+   * the strength allows and ends the turn. Does nothing if the game has moved on meanwhile.
+   */
+  private void finish(Turn turn, Move move) {
+    if (!isCurrent(turn)) {
+      return;
+    }
+    if (move != null) {
+      game.placeMove(player, move);
+    } else if (game.canSwapTiles(player)) {
+      game.swapTiles(player, new ArrayList<>(player.letterTiles()));
+    }
+    if (strength.usesSpecialTiles() && turn.canTakeSpecialAction(player)) {
+      if (player.specialTiles().isEmpty()) {
+        buySpecialTile();
+      } else {
+        placeSpecialTile();
+      }
+    }
+    game.endTurn(player);
+  }
+
+  /*
+   * Returns the rank of the candidate with the best average outcome in simulation, or of the
+   * highest scoring one if no simulation of any candidate finished in time. Reads nothing of the
+   * game, so it may run on any thread.
+   */
+  private int bestSimulated(BoardSnapshot board, List<LetterTile> rack, List<LetterTile> unseen,
+                            SearchResult result, long remainingNanos) {
+    double[] outcomes = simulator.evaluate(board, rack, unseen, result.moves(),
+            strength.simulations(), remainingNanos);
+    int best = 0;
+    for (int i = 1; i < outcomes.length; i++) {
+      if (outcomes[i] > outcomes[best] || Double.isNaN(outcomes[best])) {
+        best = i;
+      }
+    }
+    return Double.isNaN(outcomes[best]) ? 0 : best;
+  }
+
+  /* Buys a special tile if the player can pay for it and still be ahead of every opponent. */
+  private void buySpecialTile() {
+    if (!game.tileStore().hasSpecialTile(SPECIAL_TILE)) {
+      return;
+    }
+    int lead = player.getScore();
+    for (int score : opponentScores.values()) {
+      lead = Math.min(lead, player.getScore() - score);
+    }
+    if (game.tileStore().priceOfSpecialTile(SPECIAL_TILE) < lead) {
+      game.buySpecialTile(player, SPECIAL_TILE);
+    }
+  }
+
+  /*
+   * Places a special tile where an opponent is likely to play next: an empty square next to a
+   * letter tile, preferring premium squares. Nothing is placed while the board is empty.
+   *
+   * The snapshot holds every player's special tiles, so it is only read for letter tiles and
+   * multipliers; squares are checked for special tiles through the game's view for this player,
+   * which hides the opponents'.
+   */
+  private void placeSpecialTile() {
+    BoardSnapshot board = game.boardSnapshot();
+    List<Position> anchors = new ArrayList<>();
+    List<Position> premium = new ArrayList<>();
+    for (int row = 0; row < board.height(); row++) {
+      for (int col = 0; col < board.width(); col++) {
+        ImmutableSquare square = board.square(row, col);
+        if (square.getLetterTile() == null
+                && (hasLetterTile(board, row - 1, col) || hasLetterTile(board, row + 1, col)
+                || hasLetterTile(board, row, col - 1) || hasLetterTile(board, row, col + 1))) {
+          Position position = Position.of(row, col);
+          if (game.viewOfSquare(player, position).hasSpecialTiles()) {
+            continue;
+          }
+          anchors.add(position);
+          if (square.wordMultiplier() > 1 || square.letterMultiplier() > 1) {
+            premium.add(position);
+          }
+        }
+      }
+    }
+    List<Position> choices = premium.isEmpty() ? anchors : premium;
+    if (!choices.isEmpty()) {
+      game.placeSpecialTile(player, choices.get(random.nextInt(choices.size())),
+              player.specialTiles().get(0));
+    }
+  }
+
+  private static boolean hasLetterTile(BoardSnapshot board, int row, int col) {
+    return row >= 0 && row < board.height() && col >= 0 && col < board.width()
+            && board.square(row, col).getLetterTile() != null;
+  }
+}
@@ -0,0 +1,47 @@
+package edu.cmu.cs.cs323.scrabble.core.bot;
+
+/**
+ * How well a {@link ComputerPlayer} plays.
+ *
+ * A weaker computer player picks at random among more of its best scoring moves, so it often plays
+ * worse than it could, and does not use special tiles. The strongest instead simulates each of its
+ * best scoring moves a few turns ahead, and plays the one with the best average outcome.
+ */
+public enum Strength {
+  EASY(8, false, 0),
+  MEDIUM(3, false, 0),
+  HARD(1, true, 0),
+  EXPERT(8, true, 100);
+
+  private final int candidates;
+  private final boolean usesSpecialTiles;
+  private final int simulations;
+
+  Strength(int candidates, boolean usesSpecialTiles, int simulations) {
+    this.candidates = candidates;
+    this.usesSpecialTiles = usesSpecialTiles;
+    this.simulations = simulations;
+  }
+
+  /**
+   * @return Number of best scoring moves the move played is picked from.
+   */
+  public int candidates() {
+    return candidates;
+  }
+
+  /**
+   * @return True if the computer player buys and places special tiles.
+   */
+  public boolean usesSpecialTiles() {
+    return usesSpecialTiles;
+  }
+
+  /**
+   * @return Number of simulations run for each candidate move, or 0 to pick among the candidates
+   *     at random instead.
+   */
+  public int simulations() {
+    return simulations;
+  }
+}
@@ -0,0 +1,324 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.BoardSnapshot;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.board.WordExtractor;
+import edu.cmu.cs.cs323.scrabble.core.game.Journal;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGame;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rates candidate moves by playing each of them out a few turns ahead against random racks.
+ *
+ * A simulation plays the candidate, then lets the players take turns for the given number of
+ * plies, each playing its highest scoring move, starting with the opponent. The opponent's rack,
+ * and the tiles that refill both racks, are drawn at random from the unseen tiles: those in the bag
+ * and on the other players' racks, such as {@link SWSGame#unseenTiles} gives. The outcome is the
+ * candidate's score plus the rated player's later scores, less the opponent's. Averaged over many
+ * simulations, this accounts for the openings a move gives the opponent and the tiles it leaves on
+ * the rack, which its score alone does not.
+ *
+ * Simulations run in a {@link ForkJoinPool}, split into tasks the way {@link ParallelMoveGenerator}
+ * splits lines. Each worker thread keeps a copy of the board, built from the snapshot once per
+ * position, with its own generator and buffers; a simulation plays on that copy and then undoes
+ * its moves through a {@link Journal}. Each task draws from its own {@link SplittableRandom}, split
+ * from its parent's when the task is created, so no generator is shared between threads.
+ *
+ * A simulator may be shared by any number of threads.
+ */
+public final class MonteCarloSimulator {
+  /* Aim for several tasks per worker, so that slow simulations do not hold up the rest. */
+  private static final int TASKS_PER_WORKER = 4;
+  private static final int LETTERS = Letter.values().length;
+  private static final LetterTile[] TILES = new LetterTile[LETTERS];
+
+  static {
+    for (Letter letter : Letter.values()) {
+      TILES[letter.ordinal()] = new LetterTile(letter);
+    }
+  }
+
+  private final WordGraph graph;
+  private final ForkJoinPool pool;
+  private final int plies;
+  private final SplittableRandom random;
+  private final ThreadLocal<Worker> workers;
+  private final LongAdder simulations = new LongAdder();
+  private final LongAdder nanos = new LongAdder();
+
+  /**
+   * Constructor. Creates a simulator that runs in the common fork/join pool.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   * @param plies Number of turns to play after each candidate, the opponent's first.
+   */
+  public MonteCarloSimulator(WordGraph graph, int plies) {
+    this(graph, plies, ForkJoinPool.commonPool(), new SplittableRandom());
+  }
+
+  /**
+   * Constructor. Creates a simulator that runs in the given pool, drawing tiles from the given
+   * random number generator.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   * @param plies Number of turns to play after each candidate, the opponent's first.
+   * @param pool Pool to run the simulations in.
+   * @param random Source of every random number, for example seeded to repeat a run.
+   */
+  public MonteCarloSimulator(WordGraph graph, int plies, ForkJoinPool pool,
+                             SplittableRandom random) {
+    if (graph == null || pool == null || random == null) {
+      throw new IllegalArgumentException("Graph, pool and random must be non-null.");
+    }
+    if (plies < 0) {
+      throw new IllegalArgumentException("Plies must be non-negative.");
+    }
+    this.graph = graph;
+    this.pool = pool;
+    this.plies = plies;
+    this.random = random;
+    this.workers = ThreadLocal.withInitial(Worker::new);
+  }
+
+  /**
+   * Rates each candidate move by the average outcome of simulations that start with it. The
+   * simulations are spread evenly over the candidates, and stop when the time budget runs out.
+   *
+   * @param board Position to play the candidates in.
+   * @param rack Letter tiles of the player choosing a move. Every candidate must be playable with
+   *             them.
+   * @param unseen Letter tiles the player cannot see, which the opponent's rack and every refill
+   *               are drawn from.
+   * @param candidates Moves to rate.
+   * @param simulationsPerMove Number of simulations to run for each candidate.
+   * @param budgetNanos Time allowed for all the simulations, in nanoseconds.
+   * @return Average outcome of each candidate, in order, in points; {@code Double.NaN} for a
+   *     candidate if the budget ran out before any of its simulations finished.
+   */
+  public double[] evaluate(BoardSnapshot board, List<LetterTile> rack, List<LetterTile> unseen,
+                           List<Move> candidates, int simulationsPerMove, long budgetNanos) {
+    if (simulationsPerMove < 0 || budgetNanos < 0) {
+      throw new IllegalArgumentException("Simulations and budget must be non-negative.");
+    }
+    long start = System.nanoTime();
+    List<Move> moves = new ArrayList<>(candidates);
+    int[] held = letterCounts(rack);
+    int[] hidden = letterCounts(unseen);
+    SplittableRandom taskRandom;
+    synchronized (random) {
+      taskRandom = random.split();
+    }
+
+    int total = moves.size() * simulationsPerMove;
+    double[] sums = new double[2 * moves.size()];
+    if (total > 0) {
+      int perTask = Math.max(1, total / (pool.getParallelism() * TASKS_PER_WORKER));
+      Simulation root = new Simulation(board, moves, held, hidden, start, budgetNanos, 0, total,
+              perTask, taskRandom);
+      sums = pool.invoke(root);
+    }
+
+    /* sums holds the total outcome of each candidate, then the number of simulations finished. */
+    double[] averages = new double[moves.size()];
+    long finished = 0;
+    for (int m = 0; m < moves.size(); m++) {
+      double count = sums[moves.size() + m];
+      averages[m] = count > 0 ? sums[m] / count : Double.NaN;
+      finished += (long) count;
+    }
+    simulations.add(finished);
+    nanos.add(System.nanoTime() - start);
+    return averages;
+  }
+
+  /**
+   * @return Number of simulations finished by every call to {@link #evaluate} so far.
+   */
+  public long simulationCount() {
+    return simulations.sum();
+  }
+
+  /**
+   * @return Simulations finished per second of time spent in {@link #evaluate}, over every call so
+   *     far, or 0 before the first.
+   */
+  public double simulationsPerSecond() {
+    long spent = nanos.sum();
+    return spent == 0 ? 0 : simulations.sum() * 1e9 / spent;
+  }
+
+  /* Counts the tiles of each letter, indexed by Letter.ordinal(). */
+  private static int[] letterCounts(List<LetterTile> tiles) {
+    int[] counts = new int[LETTERS];
+    for (LetterTile tile : tiles) {
+      counts[tile.letter().ordinal()]++;
+    }
+    return counts;
+  }
+
+  /**
+   * Runs simulations [from, to). Simulation i plays candidate {@code i % candidates}, so that a
+   * run cut short has covered the candidates evenly. Returns the sum of outcomes of each candidate
+   * followed by the number of simulations finished for each.
+   */
+  private final class Simulation extends RecursiveTask<double[]> {
+    private static final long serialVersionUID = 1L;
+
+    private final BoardSnapshot board;
+    private final List<Move> moves;
+    private final int[] held;
+    private final int[] unseen;
+    private final long start;
+    private final long budgetNanos;
+    private final int from;
+    private final int to;
+    private final int perTask;
+    private final SplittableRandom random;
+
+    Simulation(BoardSnapshot board, List<Move> moves, int[] held, int[] unseen, long start,
+               long budgetNanos, int from, int to, int perTask, SplittableRandom random) {
+      this.board = board;
+      this.moves = moves;
+      this.held = held;
+      this.unseen = unseen;
+      this.start = start;
+      this.budgetNanos = budgetNanos;
+      this.from = from;
+      this.to = to;
+      this.perTask = perTask;
+      this.random = random;
+    }
+
+    @Override
+    protected double[] compute() {
+      if (to - from <= perTask) {
+        double[] sums = new double[2 * moves.size()];
+        Worker worker = workers.get();
+        for (int i = from; i < to && System.nanoTime() - start < budgetNanos; i++) {
+          int m = i % moves.size();
+          sums[m] += worker.simulate(board, moves.get(m), held, unseen, random);
+          sums[moves.size() + m]++;
+        }
+        return sums;
+      }
+      int middle = (from + to) >>> 1;
+      Simulation right = new Simulation(board, moves, held, unseen, start, budgetNanos, middle, to,
+              perTask, random.split());
+      right.fork();
+      double[] sums = new Simulation(board, moves, held, unseen, start, budgetNanos, from, middle,
+              perTask, random).compute();
+      double[] rightSums = right.join();
+      for (int i = 0; i < sums.length; i++) {
+        sums[i] += rightSums[i];
+      }
+      return sums;
+    }
+  }
+
+  /** Board copy and scratch space of one worker thread. */
+  private final class Worker {
+    private final Journal journal = new Journal();
+    private final MoveGenerator generator = new MoveGenerator(graph);
+    private final MoveList moves = new MoveList();
+    private final WordExtractor extractor = new WordExtractor();
+    private final List<LetterTile> rack = new ArrayList<>();
+    private final int[] own = new int[LETTERS];
+    private final int[] opponent = new int[LETTERS];
+    private final int[] bag = new int[LETTERS];
+    private BoardSnapshot source;
+    private Board board;
+
+    /* Plays one simulation of a candidate and returns its outcome, leaving the board as it was. */
+    double simulate(BoardSnapshot snapshot, Move candidate, int[] held, int[] unseen,
+                    SplittableRandom random) {
+      if (snapshot != source) {
+        board = Board.copyOf(snapshot);
+        board.enableCrossChecks(graph);
+        board.setJournal(journal);
+        source = snapshot;
+      }
+      int mark = journal.mark();
+      System.arraycopy(held, 0, own, 0, LETTERS);
+      System.arraycopy(unseen, 0, bag, 0, LETTERS);
+      Arrays.fill(opponent, 0);
+      int bagSize = 0;
+      for (int count : unseen) {
+        bagSize += count;
+      }
+
+      for (Map.Entry<Position, LetterTile> placement : candidate.placements().entrySet()) {
+        board.placeLetterTile(placement.getKey(), placement.getValue());
+        own[placement.getValue().letter().ordinal()]--;
+      }
+      double outcome = candidate.totalScore(board, extractor);
+      bagSize = draw(own, bagSize, random);
+      bagSize = draw(opponent, bagSize, random);
+
+      for (int ply = 0; ply < plies; ply++) {
+        boolean opponentsTurn = ply % 2 == 0;
+        int[] letters = opponentsTurn ? opponent : own;
+        int best = bestMove(letters);
+        if (best >= 0) {
+          for (int t = 0; t < moves.tileCount(best); t++) {
+            int code = moves.letterCode(best, t);
+            board.placeLetterTile(Position.of(moves.row(best, t), moves.col(best, t)), TILES[code]);
+            letters[code]--;
+          }
+          outcome += opponentsTurn ? -moves.score(best) : moves.score(best);
+          bagSize = draw(letters, bagSize, random);
+        }
+      }
+      journal.undoTo(mark);
+      return outcome;
+    }
+
+    /* Generates the moves for a rack of letter counts and returns the highest scoring, or -1. */
+    private int bestMove(int[] letters) {
+      rack.clear();
+      for (int code = 0; code < LETTERS; code++) {
+        for (int i = 0; i < letters[code]; i++) {
+          rack.add(TILES[code]);
+        }
+      }
+      generator.generate(board, rack, moves);
+      int best = -1;
+      for (int m = 0; m < moves.size(); m++) {
+        if (best < 0 || moves.score(m) > moves.score(best)) {
+          best = m;
+        }
+      }
+      return best;
+    }
+
+    /* Fills a rack of letter counts up to the tile limit from the bag, returning the bag's size. */
+    private int draw(int[] letters, int bagSize, SplittableRandom random) {
+      int size = 0;
+      for (int count : letters) {
+        size += count;
+      }
+      for (; size < SWSGame.PLAYER_TILE_LIMIT && bagSize > 0; size++, bagSize--) {
+        int pick = random.nextInt(bagSize);
+        int code = 0;
+        while (pick >= bag[code]) {
+          pick -= bag[code++];
+        }
+        bag[code]--;
+        letters[code]++;
+      }
+      return bagSize;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+/**
+ * Ranks generated moves for {@link MoveSearch}. Higher values are better.
+ *
+ * Evaluators are called once per generated move, on the searching thread, so they should be cheap
+ * compared to the time budget of a search; an expensive evaluator simply means fewer moves are
+ * considered before the deadline.
+ */
+@FunctionalInterface
+public interface MoveEvaluator {
+
+  /**
+   * @param moves Moves generated so far.
+   * @param move Index of the move to evaluate.
+   * @return Value of the move.
+   */
+  double evaluate(MoveList moves, int move);
+
+  /**
+   * @return Evaluator that ranks moves by the points they score.
+   */
+  static MoveEvaluator score() {
+    return MoveList::score;
+  }
+}
@@ -0,0 +1,423 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.BoardSnapshot;
+import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates every legal move for a rack of letter tiles on a board.
+ *
+ * Uses the Appel-Jacobson algorithm over a prefix-walkable lexicon such as a
+ * {@link edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg}. Each row and each column is
+ * searched from its anchor squares, the empty squares next to a tile, which every move must cover.
+ * From each anchor, a left part is built from rack letters on the empty squares before it, and then
+ * extended to the right through the anchor, following the lexicon one letter at a time and only
+ * placing letters allowed by the board's cross-checks. A move is recorded whenever the letters so far
+ * spell a word and the next square is empty, so every move reaching this far is in the lexicon, forms
+ * only valid cross words, and is found exactly once.
+ *
+ * Scores are those {@link edu.cmu.cs.cs323.scrabble.core.game.Move#totalScore} would give the move
+ * once placed: the main word plus every cross word, with the multipliers of every square in them.
+ * They are accumulated during the search rather than by extracting words afterwards. Special tiles on
+ * the board are not taken into account.
+ *
+ * On an empty board, the only anchor is the center square, and moves must place at least two tiles.
+ * A move of a single tile forming words in both directions is reported once, as an across move.
+ *
+ * A generator keeps scratch state between calls and is not thread-safe; use one per thread.
+ */
+public final class MoveGenerator {
+  private static final int EMPTY = -1;
+  private static final int[] POINTS = new int[Letter.values().length];
+
+  static {
+    for (Letter letter : Letter.values()) {
+      POINTS[letter.ordinal()] = new LetterTile(letter).points();
+    }
+  }
+
+  private final WordGraph graph;
+
+  /* Set by begin() for each generation. */
+  private Board board;
+  private BoardSnapshot snapshot;
+  private MoveList out;
+  private final int[] rackCounts = new int[POINTS.length];
+  private int rackMask;
+  private int rackTiles;
+  private boolean firstMove;
+  private int centerRow;
+  private int centerCol;
+
+  /*
+   * The line being searched: row `line` for across moves, column `line` for down moves. These arrays
+   * are indexed by position along the line. crossMultipliers is 0 where no cross word is formed.
+   */
+  private boolean across;
+  private int line;
+  private int length;
+  private int[] letters = new int[0];
+  private int[] letterMultipliers = new int[0];
+  private int[] wordMultipliers = new int[0];
+  private int[] crossMasks = new int[0];
+  private int[] crossSums = new int[0];
+  private int[] crossMultipliers = new int[0];
+  private long[] anchors = new long[0];
+
+  /* Search state for the current anchor. */
+  private int anchor;
+  private int wordStart;
+  private int[] prefix = new int[0];
+  private int prefixLength;
+  private int[] placedPositions = new int[0];
+  private int[] placedLetters = new int[0];
+  private int placedCount;
+
+  /**
+   * Constructor. Creates a generator that plays words from the given lexicon.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   */
+  public MoveGenerator(WordGraph graph) {
+    if (graph == null) {
+      throw new IllegalArgumentException("Graph must be non-null.");
+    }
+    this.graph = graph;
+  }
+
+  /**
+   * Generates every legal move for the given rack.
+   *
+   * If the board's cross-checks are not enabled, they are enabled with this generator's lexicon.
+   * If they are, they must have been enabled with the same lexicon.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @return Every legal move, with its score.
+   */
+  public MoveList generate(Board board, List<LetterTile> rack) {
+    MoveList moves = new MoveList();
+    generate(board, rack, moves);
+    return moves;
+  }
+
+  /**
+   * Generates every legal move for the given rack into an existing list, which is cleared first.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @param into List to fill.
+   * @return Number of moves generated.
+   */
+  public int generate(Board board, List<LetterTile> rack, MoveList into) {
+    into.clear();
+    begin(board, rack, into);
+    for (int row = 0; row < board.height(); row++) {
+      generateLine(row, true);
+    }
+    for (int col = 0; col < board.width(); col++) {
+      generateLine(col, false);
+    }
+    end();
+    return into.size();
+  }
+
+  /* Prepares to generate moves for the rack, appending them to `into`. */
+  void begin(Board board, List<LetterTile> rack, MoveList into) {
+    if (!board.hasCrossChecks()) {
+      board.enableCrossChecks(graph);
+    }
+    this.board = board;
+    this.snapshot = board.snapshot();
+    this.out = into;
+
+    Arrays.fill(rackCounts, 0);
+    rackMask = 0;
+    rackTiles = rack.size();
+    for (LetterTile tile : rack) {
+      int code = tile.letter().ordinal();
+      rackCounts[code]++;
+      rackMask |= 1 << code;
+    }
+
+    /* Matches the center square SWSGame requires the first move to cover. */
+    firstMove = board.isEmpty();
+    centerRow = board.height() / 2 - 1 + board.height() % 2;
+    centerCol = board.width() / 2 - 1 + board.width() % 2;
+
+    int size = Math.max(board.width(), board.height());
+    if (letters.length < size) {
+      letters = new int[size];
+      letterMultipliers = new int[size];
+      wordMultipliers = new int[size];
+      crossMasks = new int[size];
+      crossSums = new int[size];
+      crossMultipliers = new int[size];
+      prefix = new int[size];
+      placedPositions = new int[size];
+      placedLetters = new int[size];
+    }
+    int words = Math.max(board.anchorMaskLength(true), board.anchorMaskLength(false));
+    if (anchors.length < words) {
+      anchors = new long[words];
+    }
+  }
+
+  /*
+   * Forgets the board and list given to begin(), so that a generator kept for reuse, such as one
+   * per pool thread, does not hold on to them between generations. The scratch arrays are kept.
+   */
+  void end() {
+    board = null;
+    snapshot = null;
+    out = null;
+  }
+
+  /* Generates the moves whose main word lies in one row (across) or column (down). */
+  void generateLine(int lineIndex, boolean acrossMoves) {
+    this.across = acrossMoves;
+    this.line = lineIndex;
+    this.length = acrossMoves ? board.width() : board.height();
+    int words = board.anchorMaskLength(acrossMoves);
+
+    if (firstMove) {
+      if (lineIndex != (acrossMoves ? centerRow : centerCol)) {
+        return;
+      }
+      Arrays.fill(anchors, 0, words, 0);
+      int center = acrossMoves ? centerCol : centerRow;
+      anchors[center >>> 6] |= 1L << center;
+    } else if (acrossMoves) {
+      board.rowAnchors(lineIndex, anchors);
+    } else {
+      board.columnAnchors(lineIndex, anchors);
+    }
+
+    int firstAnchor = -1;
+    int lastAnchor = -1;
+    for (int w = 0; w < words; w++) {
+      if (anchors[w] != 0) {
+        if (firstAnchor < 0) {
+          firstAnchor = w * 64 + Long.numberOfTrailingZeros(anchors[w]);
+        }
+        lastAnchor = w * 64 + 63 - Long.numberOfLeadingZeros(anchors[w]);
+      }
+    }
+    if (firstAnchor < 0 || rackTiles == 0) {
+      return;
+    }
+
+    /*
+     * Only the squares a move from one of the anchors can reach are read: the tiles and rack-sized
+     * run of empty squares before the first anchor, and everything up to the square after the last
+     * anchor's rack-sized run of empty squares. On large boards that is far less than the whole line.
+     */
+    int from = firstAnchor;
+    while (from > 0 && isOccupied(from - 1)) {
+      from--;
+    }
+    from = Math.max(0, from - rackTiles);
+    int to = lastAnchor;
+    for (int empty = 0; to < length - 1; to++) {
+      if (!isOccupied(to) && ++empty > rackTiles) {
+        break;
+      }
+    }
+    loadLine(from, to);
+
+    for (int w = 0; w < words; w++) {
+      for (long bits = anchors[w]; bits != 0; bits &= bits - 1) {
+        anchor = w * 64 + Long.numberOfTrailingZeros(bits);
+        searchAnchor();
+      }
+    }
+  }
+
+  /* Reads the letters, multipliers and cross-checks of squares [from, to] of the current line. */
+  private void loadLine(int from, int to) {
+    int rowStep = across ? 1 : 0;
+    int colStep = across ? 0 : 1;
+    for (int pos = from; pos <= to; pos++) {
+      int row = rowOf(pos);
+      int col = colOf(pos);
+      ImmutableSquare square = snapshot.square(row, col);
+      letterMultipliers[pos] = square.letterMultiplier();
+      wordMultipliers[pos] = square.wordMultiplier();
+      if (square.hasLetterTile()) {
+        letters[pos] = square.getLetterTile().letter().ordinal();
+        continue;
+      }
+      letters[pos] = EMPTY;
+      crossMasks[pos] = board.crossCheck(row, col, across);
+
+      /* The cross word runs perpendicular to the line, through the tiles on either side. */
+      int sum = 0;
+      int multiplier = 1;
+      boolean formsWord = false;
+      for (int sign = -1; sign <= 1; sign += 2) {
+        int r = row + sign * rowStep;
+        int c = col + sign * colStep;
+        while (board.isOccupied(r, c)) {
+          ImmutableSquare tile = snapshot.square(r, c);
+          sum += tile.getLetterTile().points() * tile.letterMultiplier();
+          multiplier *= tile.wordMultiplier();
+          formsWord = true;
+          r += sign * rowStep;
+          c += sign * colStep;
+        }
+      }
+      crossSums[pos] = sum;
+      crossMultipliers[pos] = formsWord ? multiplier : 0;
+    }
+  }
+
+  private void searchAnchor() {
+    prefixLength = 0;
+    placedCount = 0;
+    if (anchor > 0 && letters[anchor - 1] != EMPTY) {
+      /* The left part is the tiles already on the board before the anchor. */
+      int start = anchor - 1;
+      while (start > 0 && letters[start - 1] != EMPTY) {
+        start--;
+      }
+      int node = graph.root();
+      int sum = 0;
+      int multiplier = 1;
+      for (int pos = start; pos < anchor; pos++) {
+        node = graph.child(node, letters[pos]);
+        if (node == WordGraph.NONE) {
+          return;
+        }
+        sum += POINTS[letters[pos]] * letterMultipliers[pos];
+        multiplier *= wordMultipliers[pos];
+      }
+      wordStart = start;
+      extendRight(anchor, node, sum, multiplier, 0);
+    } else {
+      /* The left part is built from the rack, on empty squares up to the previous anchor. Those
+       * squares have no neighbors, so they form no cross words. */
+      int limit = 0;
+      while (limit < rackTiles && anchor - limit > 0 && letters[anchor - limit - 1] == EMPTY
+              && !isAnchor(anchor - limit - 1)) {
+        limit++;
+      }
+      leftPart(graph.root(), limit);
+    }
+  }
+
+  private void leftPart(int node, int limit) {
+    wordStart = anchor - prefixLength;
+    int sum = 0;
+    int multiplier = 1;
+    for (int i = 0; i < prefixLength; i++) {
+      sum += POINTS[prefix[i]] * letterMultipliers[wordStart + i];
+      multiplier *= wordMultipliers[wordStart + i];
+    }
+    extendRight(anchor, node, sum, multiplier, 0);
+
+    if (limit == 0) {
+      return;
+    }
+    for (int candidates = graph.childMask(node) & rackMask; candidates != 0;
+         candidates &= candidates - 1) {
+      int letter = Integer.numberOfTrailingZeros(candidates);
+      take(letter);
+      prefix[prefixLength++] = letter;
+      leftPart(graph.child(node, letter), limit - 1);
+      prefixLength--;
+      give(letter);
+    }
+  }
+
+  /*
+   * Extends the word from `pos`, having reached `node`. `sum` and `multiplier` are the main word's
+   * letter total and word multiplier so far, and `crossTotal` is the score of the cross words formed.
+   */
+  private void extendRight(int pos, int node, int sum, int multiplier, int crossTotal) {
+    if (pos < length && letters[pos] != EMPTY) {
+      int next = graph.child(node, letters[pos]);
+      if (next != WordGraph.NONE) {
+        extendRight(pos + 1, next, sum + POINTS[letters[pos]] * letterMultipliers[pos],
+                multiplier * wordMultipliers[pos], crossTotal);
+      }
+      return;
+    }
+
+    /* In scrabble, a word must have at least two letters. */
+    if (pos > anchor && pos - wordStart >= 2 && graph.isTerminal(node)) {
+      record(sum * multiplier + crossTotal);
+    }
+    if (pos == length) {
+      return;
+    }
+    for (int candidates = graph.childMask(node) & crossMasks[pos] & rackMask; candidates != 0;
+         candidates &= candidates - 1) {
+      int letter = Integer.numberOfTrailingZeros(candidates);
+      int letterScore = POINTS[letter] * letterMultipliers[pos];
+      int crossScore = crossMultipliers[pos] == 0 ? 0
+              : (letterScore + crossSums[pos]) * wordMultipliers[pos] * crossMultipliers[pos];
+      take(letter);
+      placedPositions[placedCount] = pos;
+      placedLetters[placedCount++] = letter;
+      extendRight(pos + 1, graph.child(node, letter), sum + letterScore,
+              multiplier * wordMultipliers[pos], crossTotal + crossScore);
+      placedCount--;
+      give(letter);
+    }
+  }
+
+  private void record(int score) {
+    int tiles = prefixLength + placedCount;
+    if (firstMove && tiles < 2) {
+      return;
+    }
+    if (!across && tiles == 1) {
+      /* A single tile with a neighbor across was already reported by the across search. */
+      int row = placedPositions[0];
+      if (board.isOccupied(row, line - 1) || board.isOccupied(row, line + 1)) {
+        return;
+      }
+    }
+    out.startMove(across, score);
+    for (int i = 0; i < prefixLength; i++) {
+      out.addTile(rowOf(wordStart + i), colOf(wordStart + i), prefix[i]);
+    }
+    for (int i = 0; i < placedCount; i++) {
+      out.addTile(rowOf(placedPositions[i]), colOf(placedPositions[i]), placedLetters[i]);
+    }
+  }
+
+  private boolean isOccupied(int pos) {
+    return board.isOccupied(rowOf(pos), colOf(pos));
+  }
+
+  private boolean isAnchor(int pos) {
+    return (anchors[pos >>> 6] & (1L << pos)) != 0;
+  }
+
+  private void take(int letter) {
+    if (--rackCounts[letter] == 0) {
+      rackMask &= ~(1 << letter);
+    }
+  }
+
+  private void give(int letter) {
+    if (rackCounts[letter]++ == 0) {
+      rackMask |= 1 << letter;
+    }
+  }
+
+  private int rowOf(int pos) {
+    return across ? line : pos;
+  }
+
+  private int colOf(int pos) {
+    return across ? pos : line;
+  }
+}
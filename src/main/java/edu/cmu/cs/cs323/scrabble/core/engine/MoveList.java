@@ -0,0 +1,219 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Growable list of generated moves, stored in primitive arrays.
+ *
+ * Each move is a direction, a score and a run of placed tiles, and each tile is a row, a column and
+ * a letter code ({@code Letter.ordinal()}). Tiles of all moves are stored back to back, so adding a
+ * move allocates nothing once the arrays are large enough, and a list can be cleared and refilled
+ * for every search. {@link Move} objects are only created on request, by {@link #toMove}.
+ *
+ * A MoveList is not thread-safe.
+ */
+public final class MoveList {
+  private int size = 0;
+  private int[] scores = new int[256];
+  private boolean[] across = new boolean[256];
+  /* Tiles of move i are at [firstTile[i], firstTile[i + 1]) in rows, cols and letters. */
+  private int[] firstTile = new int[257];
+  private int[] rows = new int[1024];
+  private int[] cols = new int[1024];
+  private int[] letters = new int[1024];
+
+  /**
+   * @return Number of moves in the list.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return True if the list holds no moves.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every move, keeping the arrays for reuse.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()}.
+   *
+   * @param move Index of the move.
+   * @return Points the move scores, as {@link Move#totalScore} would compute them.
+   */
+  public int score(int move) {
+    checkMove(move);
+    return scores[move];
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()}.
+   *
+   * @param move Index of the move.
+   * @return True if the move's main word reads across, false if it reads down.
+   */
+  public boolean isAcross(int move) {
+    checkMove(move);
+    return across[move];
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()}.
+   *
+   * @param move Index of the move.
+   * @return Number of tiles the move places.
+   */
+  public int tileCount(int move) {
+    checkMove(move);
+    return firstTile[move + 1] - firstTile[move];
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()} and {@code 0 <= tile < tileCount(move)}.
+   *
+   * @param move Index of the move.
+   * @param tile Index of the tile within the move.
+   * @return Row the tile is placed in.
+   */
+  public int row(int move, int tile) {
+    return rows[tileIndex(move, tile)];
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()} and {@code 0 <= tile < tileCount(move)}.
+   *
+   * @param move Index of the move.
+   * @param tile Index of the tile within the move.
+   * @return Column the tile is placed in.
+   */
+  public int col(int move, int tile) {
+    return cols[tileIndex(move, tile)];
+  }
+
+  /**
+   * Requires {@code 0 <= move < size()} and {@code 0 <= tile < tileCount(move)}.
+   *
+   * @param move Index of the move.
+   * @param tile Index of the tile within the move.
+   * @return {@code Letter.ordinal()} of the tile placed.
+   */
+  public int letterCode(int move, int tile) {
+    return letters[tileIndex(move, tile)];
+  }
+
+  /**
+   * Builds the {@link Move} for a generated move, placing tiles taken from the given rack. Each
+   * rack tile is used at most once, so the move can be passed to
+   * {@link edu.cmu.cs.cs323.scrabble.core.game.SWSGame#placeMove} for the player holding the rack.
+   *
+   * Requires {@code 0 <= move < size()}, and that the rack holds a tile for every letter placed.
+   *
+   * @param move Index of the move.
+   * @param rack Letter tiles the move was generated for.
+   * @return The move.
+   */
+  public Move toMove(int move, List<LetterTile> rack) {
+    checkMove(move);
+    Map<Position, LetterTile> placements = new HashMap<>();
+    boolean[] used = new boolean[rack.size()];
+    for (int t = firstTile[move]; t < firstTile[move + 1]; t++) {
+      int tile = 0;
+      while (tile < used.length
+              && (used[tile] || rack.get(tile).letter().ordinal() != letters[t])) {
+        tile++;
+      }
+      if (tile == used.length) {
+        throw new IllegalArgumentException("Rack does not hold the tiles of the move.");
+      }
+      used[tile] = true;
+      placements.put(Position.of(rows[t], cols[t]), rack.get(tile));
+    }
+    return new Move(placements);
+  }
+
+  /**
+   * Appends every move of another list to this one.
+   *
+   * @param other Moves to append. Not modified.
+   */
+  public void addAll(MoveList other) {
+    int tiles = other.firstTile[other.size];
+    ensureMoves(size + other.size);
+    ensureTiles(firstTile[size] + tiles);
+    System.arraycopy(other.scores, 0, scores, size, other.size);
+    System.arraycopy(other.across, 0, across, size, other.size);
+    int base = firstTile[size];
+    for (int i = 1; i <= other.size; i++) {
+      firstTile[size + i] = base + other.firstTile[i];
+    }
+    System.arraycopy(other.rows, 0, rows, base, tiles);
+    System.arraycopy(other.cols, 0, cols, base, tiles);
+    System.arraycopy(other.letters, 0, letters, base, tiles);
+    size += other.size;
+  }
+
+  /* Starts a new move; its tiles are added with addTile. */
+  void startMove(boolean acrossMove, int score) {
+    ensureMoves(size + 1);
+    scores[size] = score;
+    across[size] = acrossMove;
+    firstTile[size + 1] = firstTile[size];
+    size++;
+  }
+
+  /* Adds a tile to the move most recently started. */
+  void addTile(int row, int col, int letterCode) {
+    int tile = firstTile[size];
+    ensureTiles(tile + 1);
+    rows[tile] = row;
+    cols[tile] = col;
+    letters[tile] = letterCode;
+    firstTile[size] = tile + 1;
+  }
+
+  private void ensureMoves(int moves) {
+    if (moves > scores.length) {
+      int capacity = Math.max(moves, scores.length * 2);
+      scores = Arrays.copyOf(scores, capacity);
+      across = Arrays.copyOf(across, capacity);
+      firstTile = Arrays.copyOf(firstTile, capacity + 1);
+    }
+  }
+
+  private void ensureTiles(int tiles) {
+    if (tiles > rows.length) {
+      int capacity = Math.max(tiles, rows.length * 2);
+      rows = Arrays.copyOf(rows, capacity);
+      cols = Arrays.copyOf(cols, capacity);
+      letters = Arrays.copyOf(letters, capacity);
+    }
+  }
+
+  private int tileIndex(int move, int tile) {
+    if (tile < 0 || tile >= tileCount(move)) {
+      throw new IllegalArgumentException("Invalid tile index.");
+    }
+    return firstTile[move] + tile;
+  }
+
+  private void checkMove(int move) {
+    if (move < 0 || move >= size) {
+      throw new IllegalArgumentException("Invalid move index.");
+    }
+  }
+}
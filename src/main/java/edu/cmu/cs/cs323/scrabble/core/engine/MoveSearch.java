@@ -0,0 +1,130 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the best few moves for a rack within a time budget.
+ *
+ * Moves are generated one line of the board at a time, and each is evaluated as soon as it is
+ * generated and offered to a bounded heap of the best K so far, so the full list of moves is never
+ * sorted. The clock is checked between lines and every few evaluations; once the budget is spent
+ * or the deadline has passed, the search stops and returns the best moves found up to then. Rows
+ * and columns are searched alternately, so a search cut short has still looked at moves in both
+ * directions.
+ *
+ * A search keeps scratch state between calls and is not thread-safe; use one per thread.
+ */
+public final class MoveSearch {
+  /* Evaluations between checks of the clock. */
+  private static final int CHECK_INTERVAL = 64;
+
+  private final MoveGenerator generator;
+  private final MoveList moves = new MoveList();
+
+  /**
+   * Constructor. Creates a search that plays words from the given lexicon.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   */
+  public MoveSearch(WordGraph graph) {
+    this.generator = new MoveGenerator(graph);
+  }
+
+  /**
+   * Finds the highest scoring moves for a rack, considering every legal move.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @param count Maximum number of moves to return.
+   * @return The best moves, best first.
+   */
+  public SearchResult search(Board board, List<LetterTile> rack, int count) {
+    return search(board, rack, count, MoveEvaluator.score(), Long.MAX_VALUE);
+  }
+
+  /**
+   * Finds the best moves for a rack according to an evaluator, stopping when the time budget runs
+   * out.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @param count Maximum number of moves to return.
+   * @param evaluator Ranks the moves; higher is better.
+   * @param budgetNanos Time allowed for the search, in nanoseconds.
+   * @return The best moves found, best first.
+   */
+  public SearchResult search(Board board, List<LetterTile> rack, int count,
+                             MoveEvaluator evaluator, long budgetNanos) {
+    if (budgetNanos < 0) {
+      throw new IllegalArgumentException("Budget must be non-negative.");
+    }
+    /* Deadlines are compared by difference, so this wraps harmlessly for very large budgets. */
+    return searchUntil(board, rack, count, evaluator, System.nanoTime() + budgetNanos);
+  }
+
+  /**
+   * Finds the best moves for a rack according to an evaluator, stopping at a deadline. The clock
+   * is checked before each line, so a search whose deadline has already passed considers no moves,
+   * and one for a rack without legal moves still stops in time.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @param count Maximum number of moves to return.
+   * @param evaluator Ranks the moves; higher is better.
+   * @param deadline Value of {@link System#nanoTime()} at which to stop.
+   * @return The best moves found, best first.
+   */
+  public SearchResult searchUntil(Board board, List<LetterTile> rack, int count,
+                                  MoveEvaluator evaluator, long deadline) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must be non-negative.");
+    }
+    TopMoves best = new TopMoves(count);
+    moves.clear();
+    generator.begin(board, rack, moves);
+
+    int rows = board.height();
+    int cols = board.width();
+    int evaluated = 0;
+    boolean complete = true;
+    search:
+    for (int i = 0; i < Math.max(rows, cols); i++) {
+      for (int direction = 0; direction < 2; direction++) {
+        boolean across = direction == 0;
+        if (i >= (across ? rows : cols)) {
+          continue;
+        }
+        if (System.nanoTime() - deadline >= 0) {
+          complete = false;
+          break search;
+        }
+        generator.generateLine(i, across);
+        for (; evaluated < moves.size(); evaluated++) {
+          if (evaluated % CHECK_INTERVAL == CHECK_INTERVAL - 1
+                  && System.nanoTime() - deadline >= 0) {
+            complete = false;
+            break search;
+          }
+          best.offer(evaluated, evaluator.evaluate(moves, evaluated));
+        }
+      }
+    }
+
+    generator.end();
+
+    int[] ranked = new int[best.size()];
+    double[] values = new double[best.size()];
+    best.drainBestFirst(ranked, values);
+    List<Move> result = new ArrayList<>(ranked.length);
+    for (int move : ranked) {
+      result.add(moves.toMove(move, rack));
+    }
+    return new SearchResult(result, values, complete, evaluated);
+  }
+}
@@ -0,0 +1,123 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Generates every legal move for a rack, searching rows and columns in parallel.
+ *
+ * The rows (for across moves) and columns (for down moves) are numbered as one range of lines,
+ * which is split in half recursively into {@link ForkJoinPool} tasks until each task has a few lines
+ * left. Each task searches its lines with the {@link MoveGenerator} of the worker thread running it,
+ * so scratch buffers are never shared, and fills a {@link MoveList} of its own. The generator lets
+ * go of the board when the task is done, keeping only its scratch buffers. Joining two tasks
+ * appends the right half's list to the left half's, so results are merged without locks, and come
+ * out in the same order as {@link MoveGenerator#generate} gives.
+ *
+ * While a search runs, workers only read the board: its occupancy, cross-checks and a snapshot of
+ * its squares. The board must not be changed until {@link #generate} returns.
+ */
+public final class ParallelMoveGenerator {
+  /* Aim for several tasks per worker, so that lines with many anchors do not hold up the rest. */
+  private static final int TASKS_PER_WORKER = 4;
+
+  private final WordGraph graph;
+  private final ForkJoinPool pool;
+  private final ThreadLocal<MoveGenerator> generators;
+
+  /**
+   * Constructor. Creates a generator that runs in the common fork/join pool.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   */
+  public ParallelMoveGenerator(WordGraph graph) {
+    this(graph, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructor. Creates a generator that runs in the given pool.
+   *
+   * @param graph Lexicon, walked from the start of each word forwards, such as a DAWG.
+   * @param pool Pool to run the search in.
+   */
+  public ParallelMoveGenerator(WordGraph graph, ForkJoinPool pool) {
+    if (graph == null || pool == null) {
+      throw new IllegalArgumentException("Graph and pool must be non-null.");
+    }
+    this.graph = graph;
+    this.pool = pool;
+    this.generators = ThreadLocal.withInitial(() -> new MoveGenerator(graph));
+  }
+
+  /**
+   * Generates every legal move for the given rack, as {@link MoveGenerator#generate} does.
+   *
+   * If the board's cross-checks are not enabled, they are enabled with this generator's lexicon
+   * before the search starts.
+   *
+   * @param board Board to play on. Must not change during the call.
+   * @param rack Letter tiles available to play.
+   * @return Every legal move, with its score.
+   */
+  public MoveList generate(Board board, List<LetterTile> rack) {
+    if (!board.hasCrossChecks()) {
+      board.enableCrossChecks(graph);
+    }
+    int lines = board.height() + board.width();
+    int linesPerTask = Math.max(1, lines / (pool.getParallelism() * TASKS_PER_WORKER));
+    return pool.invoke(new LinesTask(board, new ArrayList<>(rack), 0, lines, linesPerTask));
+  }
+
+  /** Searches lines [from, to): rows first, then columns numbered from {@code board.height()}. */
+  private final class LinesTask extends RecursiveTask<MoveList> {
+    private static final long serialVersionUID = 1L;
+
+    private final Board board;
+    private final List<LetterTile> rack;
+    private final int from;
+    private final int to;
+    private final int linesPerTask;
+
+    LinesTask(Board board, List<LetterTile> rack, int from, int to, int linesPerTask) {
+      this.board = board;
+      this.rack = rack;
+      this.from = from;
+      this.to = to;
+      this.linesPerTask = linesPerTask;
+    }
+
+    @Override
+    protected MoveList compute() {
+      if (to - from <= linesPerTask) {
+        MoveList moves = new MoveList();
+        MoveGenerator generator = generators.get();
+        generator.begin(board, rack, moves);
+        try {
+          for (int line = from; line < to; line++) {
+            if (line < board.height()) {
+              generator.generateLine(line, true);
+            } else {
+              generator.generateLine(line - board.height(), false);
+            }
+          }
+        } finally {
+          /* Pool threads outlive the search, and must not keep a large board reachable. */
+          generator.end();
+        }
+        return moves;
+      }
+      int middle = (from + to) >>> 1;
+      LinesTask right = new LinesTask(board, rack, middle, to, linesPerTask);
+      right.fork();
+      MoveList moves = new LinesTask(board, rack, from, middle, linesPerTask).compute();
+      moves.addAll(right.join());
+      return moves;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The best moves found by a {@link MoveSearch}, best first, with their values.
+ *
+ * SearchResult is an immutable class.
+ */
+public final class SearchResult {
+  private final List<Move> moves;
+  private final double[] values;
+  private final boolean complete;
+  private final int movesConsidered;
+
+  SearchResult(List<Move> moves, double[] values, boolean complete, int movesConsidered) {
+    this.moves = new ArrayList<>(moves);
+    this.values = values.clone();
+    this.complete = complete;
+    this.movesConsidered = movesConsidered;
+  }
+
+  /**
+   * @return Number of moves in the result.
+   */
+  public int size() {
+    return moves.size();
+  }
+
+  /**
+   * @return The moves found, best first.
+   */
+  public List<Move> moves() {
+    return new ArrayList<>(moves);
+  }
+
+  /**
+   * Requires {@code 0 <= rank < size()}.
+   *
+   * @param rank Position in the result, 0 for the best move.
+   * @return Move at that position.
+   */
+  public Move move(int rank) {
+    if (rank < 0 || rank >= moves.size()) {
+      throw new IllegalArgumentException("Invalid rank.");
+    }
+    return moves.get(rank);
+  }
+
+  /**
+   * Requires {@code 0 <= rank < size()}.
+   *
+   * @param rank Position in the result, 0 for the best move.
+   * @return Value the evaluator gave the move at that position.
+   */
+  public double value(int rank) {
+    if (rank < 0 || rank >= moves.size()) {
+      throw new IllegalArgumentException("Invalid rank.");
+    }
+    return values[rank];
+  }
+
+  /**
+   * @return True if every legal move was considered, false if the search ran out of time first.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * @return Number of moves generated and evaluated before the search finished or ran out of time.
+   */
+  public int movesConsidered() {
+    return movesConsidered;
+  }
+}
@@ -0,0 +1,76 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+/**
+ * Bounded min-heap of the best {@code capacity} moves offered so far, by value.
+ *
+ * Moves are kept as indices into a {@link MoveList} alongside their values, in two primitive arrays.
+ * The worst kept move is at the root, so a new move is compared with it and either dropped or
+ * swapped in with one sift, and keeping the best K of N moves costs O(N log K) with no allocation.
+ */
+final class TopMoves {
+  private final int[] moves;
+  private final double[] values;
+  private int size = 0;
+
+  TopMoves(int capacity) {
+    this.moves = new int[capacity];
+    this.values = new double[capacity];
+  }
+
+  int size() {
+    return size;
+  }
+
+  /* Keeps the move if it is among the best offered so far. Ties keep the move offered first. */
+  void offer(int move, double value) {
+    if (size < moves.length) {
+      int i = size++;
+      while (i > 0 && values[(i - 1) / 2] > value) {
+        moves[i] = moves[(i - 1) / 2];
+        values[i] = values[(i - 1) / 2];
+        i = (i - 1) / 2;
+      }
+      moves[i] = move;
+      values[i] = value;
+    } else if (moves.length > 0 && value > values[0]) {
+      siftDown(move, value);
+    }
+  }
+
+  /*
+   * Empties the heap into the given arrays, best move first. The arrays must hold at least size()
+   * elements.
+   */
+  void drainBestFirst(int[] intoMoves, double[] intoValues) {
+    for (int i = size - 1; i >= 0; i--) {
+      intoMoves[i] = moves[0];
+      intoValues[i] = values[0];
+      size--;
+      if (size > 0) {
+        siftDown(moves[size], values[size]);
+      }
+    }
+  }
+
+  /* Replaces the root and restores the heap order below it. */
+  private void siftDown(int move, double value) {
+    int i = 0;
+    while (true) {
+      int child = 2 * i + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && values[child + 1] < values[child]) {
+        child++;
+      }
+      if (values[child] >= value) {
+        break;
+      }
+      moves[i] = moves[child];
+      values[i] = values[child];
+      i = child;
+    }
+    moves[i] = move;
+    values[i] = value;
+  }
+}
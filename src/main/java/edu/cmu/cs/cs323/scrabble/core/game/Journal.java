@@ -0,0 +1,215 @@
+package edu.cmu.cs.cs323.scrabble.core.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Undo/redo log of the changes made to a game.
+ *
+ * Every mutation made through {@link edu.cmu.cs.cs323.scrabble.core.board.Board} and
+ * {@link SWSGame} records a small {@link Change} that knows how to reverse and reapply itself, so
+ * rolling back to an earlier point costs time proportional to the number of changes since then, not
+ * to the size of the game. Search and simulation code can apply a move, look at the result, and
+ * retract it on a single game instead of copying it.
+ *
+ * A {@link #mark()} is a position in the log. Undoing moves the log back towards the start, and
+ * redoing moves it forwards again. Recording a new change after undoing discards the changes that
+ * could have been redone, as in an editor.
+ *
+ * Listeners are not notified of changes made by undo or redo; callers that roll back a game shown
+ * in a GUI are responsible for refreshing it.
+ */
+public final class Journal {
+
+  /**
+   * A single reversible change. {@code undo} is only called when the change is in effect, and
+   * {@code redo} only when it has just been undone.
+   */
+  public interface Change {
+    void undo();
+
+    void redo();
+  }
+
+  private final List<Change> changes = new ArrayList<>();
+  /* changes[0, applied) are in effect; changes[applied, size) have been undone and can be redone. */
+  private int applied = 0;
+  /* True while undoing, redoing or running an unrecorded action, when record() ignores changes. */
+  private boolean replaying = false;
+
+  /**
+   * Appends a change that has just been made. Changes recorded while the journal is itself undoing
+   * or redoing are ignored, so undo actions may call the same mutators that record changes.
+   *
+   * @param change Change that has just been made.
+   */
+  public void record(Change change) {
+    if (replaying) {
+      return;
+    }
+    if (applied < changes.size()) {
+      changes.subList(applied, changes.size()).clear();
+    }
+    changes.add(change);
+    applied++;
+  }
+
+  /**
+   * @return The current position in the log, for use with {@link #undoTo(int)}.
+   */
+  public int mark() {
+    return applied;
+  }
+
+  /**
+   * @return true if there is a change to undo.
+   */
+  public boolean canUndo() {
+    return applied > 0;
+  }
+
+  /**
+   * @return true if there is an undone change to redo.
+   */
+  public boolean canRedo() {
+    return applied < changes.size();
+  }
+
+  /**
+   * Undoes the most recent change in effect.
+   *
+   * Requires {@code canUndo()}.
+   */
+  public void undo() {
+    if (!canUndo()) {
+      throw new IllegalArgumentException("Nothing to undo.");
+    }
+    replaying = true;
+    try {
+      changes.get(--applied).undo();
+    } finally {
+      replaying = false;
+    }
+  }
+
+  /**
+   * Redoes the most recently undone change.
+   *
+   * Requires {@code canRedo()}.
+   */
+  public void redo() {
+    if (!canRedo()) {
+      throw new IllegalArgumentException("Nothing to redo.");
+    }
+    replaying = true;
+    try {
+      changes.get(applied++).redo();
+    } finally {
+      replaying = false;
+    }
+  }
+
+  /**
+   * Undoes every change made since the given mark.
+   *
+   * Requires {@code mark <= mark()}.
+   *
+   * @param mark Value of {@link #mark()} at the point to return to.
+   */
+  public void undoTo(int mark) {
+    if (mark < 0 || mark > applied) {
+      throw new IllegalArgumentException("Mark is not before the current position.");
+    }
+    while (applied > mark) {
+      undo();
+    }
+  }
+
+  /**
+   * Redoes undone changes until the log is back at the given mark.
+   *
+   * Requires {@code mark() <= mark} and that no change has been recorded since undoing past it.
+   *
+   * @param mark Value of {@link #mark()} at the point to return to.
+   */
+  public void redoTo(int mark) {
+    if (mark < applied || mark > changes.size()) {
+      throw new IllegalArgumentException("Mark is not after the current position.");
+    }
+    while (applied < mark) {
+      redo();
+    }
+  }
+
+  /**
+   * Reverses the changes between two marks, leaving later changes in effect, and records the
+   * reversal as a single new change. Used to retract a challenged move after other actions have
+   * been taken on the same turn.
+   *
+   * Requires {@code from <= to <= mark()}, and that the changes after {@code to} do not depend on
+   * the ones being reversed.
+   *
+   * @param from Mark taken before the first change to reverse.
+   * @param to Mark taken after the last change to reverse.
+   */
+  public void revert(int from, int to) {
+    if (from < 0 || from > to || to > applied) {
+      throw new IllegalArgumentException("Invalid range of changes.");
+    }
+    Change reversal = new Reversal(new ArrayList<>(changes.subList(from, to)));
+    replaying = true;
+    try {
+      reversal.redo();
+    } finally {
+      replaying = false;
+    }
+    record(reversal);
+  }
+
+  /**
+   * Runs an action without recording the changes it makes. For changes that will never be undone,
+   * such as those made between turns.
+   *
+   * @param action Action to run.
+   */
+  public void unrecorded(Runnable action) {
+    boolean wasReplaying = replaying;
+    replaying = true;
+    try {
+      action.run();
+    } finally {
+      replaying = wasReplaying;
+    }
+  }
+
+  /**
+   * Forgets every change, making the current state the start of the log.
+   */
+  public void clear() {
+    changes.clear();
+    applied = 0;
+  }
+
+  /** The reversal of a range of changes, which is undone by reapplying them. */
+  private static final class Reversal implements Change {
+    private final List<Change> reverted;
+
+    Reversal(List<Change> reverted) {
+      this.reverted = reverted;
+    }
+
+    @Override
+    public void undo() {
+      for (Change change : reverted) {
+        change.redo();
+      }
+    }
+
+    @Override
+    public void redo() {
+      for (int i = reverted.size() - 1; i >= 0; i--) {
+        reverted.get(i).undo();
+      }
+    }
+  }
+}
@@ -3,9 +3,9 @@ package edu.cmu.cs.cs323.scrabble.core.game;
 import edu.cmu.cs.cs323.scrabble.core.board.Board;
 import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
 import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.board.WordExtractor;
 import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -87,52 +87,9 @@ public final class Move {
    * @return A list of words created by this move.
    */
   public List<PlayedWord> words(Board board) {
-    List<Position> positionList = positionList();
-    for (Position position : positionList) {
-      if (!board.isValidPosition(position)) {
-        throw new IllegalArgumentException("Letter placements incompatable with board argument.");
-      }
-    }
-
-    List<PlayedWord> words = new ArrayList<>();
-    if (positionList.size() > 1) {
-      switch (orientation()) {
-        case ACROSS:
-          words.add(board.horizontalWordIncluding(positionList.get(0)));
-          for (Position position : positionList) {
-            PlayedWord tempWord = board.verticalWordIncluding(position);
-            if (tempWord != null) {
-              words.add(tempWord);
-            }
-          }
-          break;
-        case DOWN:
-          words.add(board.verticalWordIncluding(positionList.get(0)));
-          for (Position position : positionList) {
-            PlayedWord tempWord = board.horizontalWordIncluding(position);
-            if (tempWord != null) {
-              words.add(tempWord);
-            }
-          }
-          break;
-        default:
-        /* No default is needed, because we have a case for each enum, but checkstyle complains. */
-          break;
-      }
-    } else {
-      assert(positionList.size() == 1);
-      /* If only one tile is being placed, there is really no orientation, so just try to get either
-       * of the possible words. */
-      PlayedWord horizontal = board.horizontalWordIncluding(positionList.get(0));
-      if (horizontal != null) {
-        words.add(horizontal);
-      }
-      PlayedWord vertical = board.verticalWordIncluding(positionList.get(0));
-      if (vertical != null) {
-        words.add(vertical);
-      }
-    }
-    return words;
+    WordExtractor extractor = new WordExtractor();
+    extractor.extract(board, placements.keySet());
+    return extractor.words();
   }
 
   /**
@@ -142,16 +99,20 @@ public final class Move {
    * @return sum of the scores of the words created by this move.
    */
   public int totalScore(Board board) {
-    int sum = 0;
-    for (PlayedWord word : words(board)) {
-      sum = word.score();
-    }
-    return sum;
+    return totalScore(board, new WordExtractor());
   }
 
-  // TODO Consider making this public, and not giving public access to `placements`
-  private List<Position>  positionList() {
-    return new ArrayList<>(placements.keySet());
+  /**
+   * Computes the total score for all of the words created by this move, reusing the given
+   * extractor's buffers. Callers that score many moves should keep one extractor per thread.
+   *
+   * @param board Game board the score should be calculated in context of.
+   * @param extractor Extractor to find the words with. Its previous results are replaced.
+   * @return sum of the scores of the words created by this move.
+   */
+  public int totalScore(Board board, WordExtractor extractor) {
+    extractor.extract(board, placements.keySet());
+    return extractor.totalScore();
   }
 
   /**
@@ -163,11 +124,11 @@ public final class Move {
     return (upperLeft.row == lowerRight.row) ? Orientation.ACROSS:Orientation.DOWN;
   }
 
+  /* Tiles in a move share a row or column, so row-major order puts the upper left tile first. */
   private Position computeUpperLeft() {
-    List<Position> positionList = positionList();
-    Position mostLeft = positionList.get(0);
-    for (Position position : positionList) {
-      if (mostLeft.compareTo(position) > 0) {
+    Position mostLeft = null;
+    for (Position position : placements.keySet()) {
+      if (mostLeft == null || Position.ROW_MAJOR.compare(mostLeft, position) > 0) {
         mostLeft = position;
       }
     }
@@ -175,10 +136,9 @@ public final class Move {
   }
 
   private Position computeLowerRight() {
-    List<Position> positionList = positionList();
-    Position mostRight = positionList.get(0);
-    for (Position position : positionList) {
-      if (mostRight.compareTo(position) < 0) {
+    Position mostRight = null;
+    for (Position position : placements.keySet()) {
+      if (mostRight == null || Position.ROW_MAJOR.compare(mostRight, position) < 0) {
         mostRight = position;
       }
     }
@@ -1,10 +1,14 @@
 package edu.cmu.cs.cs323.scrabble.core.game;
 
 import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.BoardSnapshot;
 import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
 import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
 import edu.cmu.cs.cs323.scrabble.core.board.Position;
 import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+import edu.cmu.cs.cs323.scrabble.core.engine.MoveEvaluator;
+import edu.cmu.cs.cs323.scrabble.core.engine.MoveSearch;
+import edu.cmu.cs.cs323.scrabble.core.engine.SearchResult;
 import edu.cmu.cs.cs323.scrabble.core.letters.DefaultTileBag;
 import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
 import edu.cmu.cs.cs323.scrabble.core.letters.TileBag;
@@ -14,14 +18,19 @@ import edu.cmu.cs.cs323.scrabble.core.specialtile.store.SpecialTileStore;
 import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
 import edu.cmu.cs.cs323.scrabble.core.specialtile.store.SpecialTileStoreBuilder;
 import edu.cmu.cs.cs323.scrabble.core.validation.DummyValidator;
-import edu.cmu.cs.cs323.scrabble.core.validation.TextFileValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.LexiconValidator;
 import edu.cmu.cs.cs323.scrabble.core.validation.WordValidator;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Manages a game of Scrabble With Stuff (SWS).
@@ -34,6 +43,12 @@ import java.util.Map;
  *   - Updating player scores
  *   - Updating the game board with player actions
  * </pre>
+ *
+ * Every change the game makes to the board, racks, scores, tile bag and turn order is recorded in
+ * its {@link Journal}, so it can be rolled back exactly with {@code journal().undoTo(mark)}. Once a
+ * player ends their turn, its move can no longer be challenged, so the journal is cleared and the
+ * work done between turns is not recorded; the journal only ever holds the changes of the turn in
+ * progress.
  */
 public final class SWSGame {
   public static final int PLAYER_TILE_LIMIT = 7;
@@ -65,12 +80,18 @@ public final class SWSGame {
   private final TileBag tileBag = DefaultTileBag.create();
   private final Board board = DefaultBoard.create();
   private final WordValidator validator;
+  private final WordGraph lexicon;
   private final List<Player> players;
   private final List<Player> skippedPlayers = new ArrayList<>();
   private final List<SWSGameListener> gameListeners = new ArrayList<>();
   private final Position centerPosition;
+  private final Journal journal = new Journal();
+  private MoveSearch moveSearch;
   private int playerIndex = 0;
   private Turn turn;
+  /* Journal marks around the changes made by placing the current turn's move. */
+  private int moveStart;
+  private int moveEnd;
 
   /**
    * Direction of motion through the players.
@@ -97,8 +118,33 @@ public final class SWSGame {
    * @param players list of players involved in the game.
    */
   public SWSGame(List<Player> players) {
+    this(players, new LexiconValidator(), Dawg.defaultDawg());
+  }
+
+  /**
+   * Initiates a game for a given list of players, checking words with the given validator. The
+   * validator may be shared with other games, as long as it is safe to call from all of them.
+   * Such a game has no lexicon to search, so {@link #bestMoves} may not be called.
+   *
+   * @param players list of players involved in the game.
+   * @param validator dictionary used to decide challenges.
+   */
+  public SWSGame(List<Player> players, WordValidator validator) {
+    this(players, validator, null);
+  }
+
+  /**
+   * Initiates a game for a given list of players, checking words with the given validator and
+   * searching for moves with the given lexicon, which should hold the same words.
+   *
+   * @param players list of players involved in the game.
+   * @param validator dictionary used to decide challenges.
+   * @param lexicon words {@link #bestMoves} plays, or null if moves are never searched for.
+   */
+  public SWSGame(List<Player> players, WordValidator validator, WordGraph lexicon) {
     this.players = new ArrayList<>(players);
-    this.validator = new TextFileValidator();
+    this.validator = validator;
+    this.lexicon = lexicon;
 
     /* Register the default "Special Tiles" with the tile store. */
     SpecialTileStoreBuilder builder = new SpecialTileStoreBuilder();
@@ -111,7 +157,28 @@ public final class SWSGame {
      * if it crosses the center square. */
     int centerRow = DefaultBoard.HEIGHT / 2 - 1 + DefaultBoard.HEIGHT % 2;
     int centerCol = DefaultBoard.WIDTH / 2 - 1 + DefaultBoard.WIDTH % 2;
-    this.centerPosition = new Position(centerRow, centerCol);
+    this.centerPosition = Position.of(centerRow, centerCol);
+    board.setJournal(journal);
+  }
+
+  /**
+   * Returns the journal of the changes made during the current turn, for undoing and redoing them.
+   * The journal is cleared when a turn ends, so marks taken during a turn are only valid until then.
+   *
+   * @return The journal of the current turn.
+   */
+  public Journal journal() {
+    return journal;
+  }
+
+  /**
+   * Returns the lexicon the game searches for moves in, for players that analyse moves of their
+   * own. It holds the same words as the game's validator.
+   *
+   * @return The game's lexicon, or null if it was created without one.
+   */
+  public WordGraph lexicon() {
+    return lexicon;
   }
 
   /**
@@ -135,21 +202,27 @@ public final class SWSGame {
     if (turn.canTakeLetterAction(player)
             && board.isValidMove(player, move, !firstMoveTaken)
             && firstMoveIsCorrect(move)) {
-      turn.takeLetterAction(player);
+      changeTurn(t -> t.takeLetterAction(player));
       notifyTurnChanged();
-      for (Position position : move.placements().keySet()) {
-        List<SpecialTile> specialTiles = board.pickupSpecialTiles(position);
-        for (SpecialTile specialTile : specialTiles) {
-          turn.addTriggeredSpecialTile(position, specialTile);
-        }
-        LetterTile letterTile = move.placements().get(position);
-        player.letterTiles().remove(letterTile);
-        board.placeLetterTile(position, letterTile);
+      /* Only the board, rack and score changes go between the marks, so that a successful challenge
+       * can revert them without touching anything else done later in the turn. */
+      moveStart = journal.mark();
+      Map<Position, List<SpecialTile>> triggered = new HashMap<>();
+      for (Map.Entry<Position, LetterTile> placement : move.placements().entrySet()) {
+        Position position = placement.getKey();
+        triggered.put(position, board.pickupSpecialTiles(position));
+        removeFromRack(player, placement.getValue());
+        board.placeLetterTile(position, placement.getValue());
         notifySquareChanged(position);
       }
-      player.setScore(player.getScore() + move.totalScore(board));
+      addToScore(player, move.totalScore(board));
+      moveEnd = journal.mark();
       notifyPlayerChanged(player);
-      turn.setPlayedMove(move);
+      changeTurn(t -> {
+        triggered.forEach((position, specialTiles) ->
+                specialTiles.forEach(specialTile -> t.addTriggeredSpecialTile(position, specialTile)));
+        t.setPlayedMove(move);
+      });
       notifyTurnChanged();
     } else {
       notifyErrorOccured(player, ERROR_PLACE_MOVE);
@@ -170,9 +243,11 @@ public final class SWSGame {
       if (viewOfSquare(player, position).hasSpecialTiles()) {
         notifyErrorOccured(player, ERROR_DOUBLE_SPECIAL);
       } else {
-        turn.takeSpecialAction(player);
+        changeTurn(t -> t.takeSpecialAction(player));
         notifyTurnChanged();
-        player.specialTiles().remove(specialTile);
+        int index = player.specialTiles().indexOf(specialTile);
+        player.specialTiles().remove(index);
+        journal.record(new SpecialRackChange(player, index, specialTile, false));
         notifyPlayerChanged(player);
         board.placeSpecialTile(position, specialTile);
         notifySquareChanged(position);
@@ -190,9 +265,14 @@ public final class SWSGame {
    */
   public void buySpecialTile(Player player, String specialTileIdentifier) {
     if (tileStore.hasSpecialTile(specialTileIdentifier)) {
-      turn.takeSpecialAction(player);
+      changeTurn(t -> t.takeSpecialAction(player));
       notifyTurnChanged();
+      int oldScore = player.getScore();
       tileStore.buySpecialTile(player, specialTileIdentifier);
+      int scoreChange = player.getScore() - oldScore;
+      int index = player.specialTiles().size() - 1;
+      journal.record(new ScoreChange(player, scoreChange));
+      journal.record(new SpecialRackChange(player, index, player.specialTiles().get(index), true));
       notifyPlayerChanged(player);
     } else {
       notifyErrorOccured(player, ERROR_BUY_SPECIAL);
@@ -210,11 +290,16 @@ public final class SWSGame {
             && oldTiles.size() > 0
             && player.letterTiles().containsAll(oldTiles)
             && tileBag.canSwapTiles()) {
-      turn.takeLetterAction(player);
+      changeTurn(t -> t.takeLetterAction(player));
       notifyTurnChanged();
-      player.letterTiles().removeAll(oldTiles);
+      for (LetterTile oldTile : oldTiles) {
+        removeFromRack(player, oldTile);
+      }
       List<LetterTile> newTiles = tileBag.swapTiles(oldTiles);
-      player.letterTiles().addAll(newTiles);
+      journal.record(new BagSwap(tileBag, oldTiles, newTiles));
+      for (LetterTile newTile : newTiles) {
+        addToRack(player, newTile);
+      }
       notifyPlayerChanged(player);
     } else {
       notifyErrorOccured(player, ERROR_SWAP);
@@ -243,32 +328,24 @@ public final class SWSGame {
    */
   public void challengeLastMove(Player challenger) {
     if (turn.canTakeChallengeAction(challenger)) {
-      turn.takeChallengeAction(challenger);
+      changeTurn(t -> t.takeChallengeAction(challenger));
       notifyTurnChanged();
-      List<PlayedWord> words = lastMove().words(board);
+      Move move = lastMove();
+      List<PlayedWord> words = move.words(board);
       if (!allWordsValid(words)) {
         /* One or more words were invalid, meaning the current player's tiles must be returned
-         * to them and their points are rescinded. */
-        Player currentPlayer = currentPlayer();
-        currentPlayer.setScore(currentPlayer.getScore() - lastMove().totalScore(board));
-        Map<Position, LetterTile> placements = lastMove().placements();
-        for (Position position : placements.keySet()) {
-          LetterTile tile = board.pickupLetterTile(position);
+         * to them and their points are rescinded. Reverting the move's changes also puts the
+         * special tiles it triggered back where they belong. */
+        journal.revert(moveStart, moveEnd);
+        for (Position position : move.placements().keySet()) {
           notifySquareChanged(position);
-          currentPlayer.letterTiles().add(tile);
         }
-        notifyPlayerChanged(currentPlayer);
-        /* Also, ensure that the special tiles are back where they belong. */
-        Map<Position,List<SpecialTile>> allSpecialTiles = turn.triggeredSpecialTiles();
-        turn.clearTriggeredSpecialTiles();
-        turn.setPlayedMove(null);
+        notifyPlayerChanged(currentPlayer());
+        changeTurn(t -> {
+          t.clearTriggeredSpecialTiles();
+          t.setPlayedMove(null);
+        });
         notifyTurnChanged();
-        for (Position position : allSpecialTiles.keySet()) {
-          for (SpecialTile specialTile : allSpecialTiles.get(position)) {
-            board.placeSpecialTile(position, specialTile);
-            notifySquareChanged(position);
-          }
-        }
       } else {
         /* All words were valid, meaning the challenger must lose their turn. */
         skipTurn(challenger);
@@ -287,30 +364,38 @@ public final class SWSGame {
   public void endTurn(Player player) {
     if (turn.canTakeEndAction(player)) {
     /* Ensure that the current turn locks out any players from taking action. */
-      turn.takeEndAction(player);
+      changeTurn(t -> t.takeEndAction(player));
+    /* The move just played can no longer be challenged, so nothing done this turn will ever be
+     * undone, and neither will the work done between turns. Dropping the journal and not recording
+     * that work leaves it empty for the next turn. */
+      journal.clear();
+      journal.unrecorded(this::finishTurn);
+      if (isGameOver()) {
+        notifyGameEnded(highestScoringPlayer());
+      } else {
+        advancePlayer();
+      }
+    }
+  }
 
+  /* Applies the effects of the turn that has just ended, before play passes on. */
+  private void finishTurn() {
     /* Before any tiles are potentially removed by special tiles, but after a challenge may have
      * removed them, record whether or not the move was the first move and covered the center tile.
      */
-      if (!firstMoveTaken && turn.getPlayedMove() != null) {
-        assert(board.getLetterTile(centerPosition) != null);
-        firstMoveTaken = true;
-      }
+    if (!firstMoveTaken && turn.getPlayedMove() != null) {
+      assert(board.getLetterTile(centerPosition) != null);
+      firstMoveTaken = true;
+    }
 
     /* If special tiles were triggered, perform their actions. */
-      Map<Position,List<SpecialTile>> allSpecialTiles = turn.triggeredSpecialTiles();
-      for (Position position : allSpecialTiles.keySet()) {
-        for (SpecialTile specialTile : allSpecialTiles.get(position)) {
-          specialTile.performAction(this, board, position, gameListeners);
-        }
-      }
-      drawTilesForPlayer(currentPlayer());
-      if (isGameOver()) {
-        notifyGameEnded(highestScoringPlayer());
-      } else {
-        advancePlayer();
+    Map<Position,List<SpecialTile>> allSpecialTiles = turn.triggeredSpecialTiles();
+    for (Position position : allSpecialTiles.keySet()) {
+      for (SpecialTile specialTile : allSpecialTiles.get(position)) {
+        specialTile.performAction(this, board, position, gameListeners);
       }
     }
+    drawTilesForPlayer(currentPlayer());
   }
 
   /**
@@ -327,9 +412,7 @@ public final class SWSGame {
    * taken, and can only be called once.
    */
   public void setupGame() {
-    for (Player player : players) {
-      drawTilesForPlayer(player);
-    }
+    journal.unrecorded(() -> players.forEach(this::drawTilesForPlayer));
     playerIndex = -1; // So the "next" index is 0
     advancePlayer();
   }
@@ -341,6 +424,7 @@ public final class SWSGame {
    */
   public void reverseTurnDirection() {
     turnDirection = turnDirection.opposite();
+    journal.record(new TurnDirectionChange());
   }
 
   /**
@@ -357,6 +441,7 @@ public final class SWSGame {
    */
   public void skipTurn(Player playerToSkip) {
     skippedPlayers.add(playerToSkip);
+    journal.record(new SkipChange(playerToSkip));
   }
 
   /* Listener Methods */
@@ -397,12 +482,81 @@ public final class SWSGame {
       throw new IllegalArgumentException(ERROR_INVALID_POSITION);
     }
     ImmutableSquare original = board.viewOfSquare(position);
+    if (!original.hasSpecialTiles()) {
+      /* Nothing to hide, and the view is immutable, so it can be shared. */
+      return original;
+    }
     List<SpecialTile> filtered = original.getSpecialTiles();
     filtered.removeIf((SpecialTile st) -> !st.owner().equals(player));
     return new ImmutableSquare(original.wordMultiplier(), original.letterMultiplier(),
             original.getLetterTile(), filtered);
   }
 
+  /**
+   * Returns the highest scoring moves the current player could make with the letter tiles on their
+   * rack, considering every legal move.
+   *
+   * @param count Maximum number of moves to return.
+   * @return The best moves, highest scoring first.
+   */
+  public List<Move> bestMoves(int count) {
+    return bestMoves(count, MoveEvaluator.score(), Long.MAX_VALUE, TimeUnit.NANOSECONDS).moves();
+  }
+
+  /**
+   * Returns the best moves the current player could make with the letter tiles on their rack,
+   * ranked by the given evaluator. The search stops when the timeout runs out and returns the best
+   * moves found by then; {@link SearchResult#isComplete()} tells whether every move was considered.
+   * Moves are played from the lexicon the game was created with, on a copy of the board, so the
+   * game's own board is left as it was.
+   *
+   * @param count Maximum number of moves to return.
+   * @param evaluator Ranks the moves; higher is better.
+   * @param timeout Time allowed for the search.
+   * @param unit Unit of {@code timeout}.
+   * @return The best moves found, best first.
+   * @throws IllegalStateException If the game was created without a lexicon.
+   */
+  public SearchResult bestMoves(int count, MoveEvaluator evaluator, long timeout, TimeUnit unit) {
+    if (lexicon == null) {
+      throw new IllegalStateException("This game has no lexicon to search for moves.");
+    }
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (moveSearch == null) {
+      moveSearch = new MoveSearch(lexicon);
+    }
+    return moveSearch.searchUntil(Board.copyOf(board.snapshot()), currentPlayer().letterTiles(),
+            count, evaluator, deadline);
+  }
+
+  /**
+   * Returns the letter tiles the given player cannot see: those in the bag and on the other
+   * players' racks. They are sorted by letter, so the list does not tell which are where.
+   *
+   * @param player Player whose view is wanted.
+   * @return New list of the tiles hidden from the player.
+   */
+  public List<LetterTile> unseenTiles(Player player) {
+    List<LetterTile> unseen = new ArrayList<>(tileBag.viewOfTiles());
+    for (Player other : players) {
+      if (!other.equals(player)) {
+        unseen.addAll(other.letterTiles());
+      }
+    }
+    unseen.sort(Comparator.comparing(LetterTile::letter));
+    return unseen;
+  }
+
+  /**
+   * Returns the latest immutable snapshot of the board, including every player's special tiles.
+   * Safe to call and read from any thread.
+   *
+   * @return Snapshot of the board as of its last change.
+   */
+  public BoardSnapshot boardSnapshot() {
+    return board.snapshot();
+  }
+
   /** @return true if the end conditions are met, false otherwise. */
   private boolean isGameOver() {
     return tileBag.isEmpty();
@@ -459,10 +613,10 @@ public final class SWSGame {
 
   /* Private Methods */
 
+  /* Only called between turns, when changes are not recorded. */
   private void drawTilesForPlayer(Player player) {
     while (!tileBag.isEmpty() && player.letterTiles().size() < PLAYER_TILE_LIMIT) {
-      LetterTile letterTile = tileBag.drawTile();
-      player.letterTiles().add(letterTile);
+      addToRack(player, tileBag.drawTile());
     }
     notifyPlayerChanged(player);
   }
@@ -472,22 +626,218 @@ public final class SWSGame {
      * remainder, which can result in negative values, and therefore ArrayIndexOutOfBounds. */
     int delta = turnDirection == TurnDirection.CW ? 1:-1;
     playerIndex = ((playerIndex + delta) % players.size() + players.size()) % players.size();
-    if (skippedPlayers.contains(players.get(playerIndex))) {
-      skippedPlayers.remove(players.get(playerIndex));
+    Player next = players.get(playerIndex);
+    if (skippedPlayers.remove(next)) {
       advancePlayer();
     } else {
-      turn = new Turn(players.get(playerIndex));
+      turn = new Turn(next);
       notifyTurnChanged();
     }
   }
 
+  /* Applies a change to the current turn, recording its state before and after in the journal. */
+  private void changeTurn(Consumer<Turn> change) {
+    Turn target = turn;
+    Turn before = target.copy();
+    change.accept(target);
+    journal.record(new TurnChange(target, before, target.copy()));
+  }
+
+  private void addToScore(Player player, int points) {
+    player.setScore(player.getScore() + points);
+    journal.record(new ScoreChange(player, points));
+  }
+
+  private void addToRack(Player player, LetterTile letterTile) {
+    int index = player.letterTiles().size();
+    player.letterTiles().add(letterTile);
+    journal.record(new RackChange(player, index, letterTile, true));
+  }
+
+  private void removeFromRack(Player player, LetterTile letterTile) {
+    int index = player.letterTiles().indexOf(letterTile);
+    if (index >= 0) {
+      player.letterTiles().remove(index);
+      journal.record(new RackChange(player, index, letterTile, false));
+    }
+  }
+
   private  boolean allWordsValid(List<PlayedWord> words) {
-    for (PlayedWord word : words) {
-      if (!validator.isValidWord(word)) {
+    /* Validate the whole move at once, so validators with a per-lookup cost only pay it once. */
+    for (boolean valid : validator.areValidWords(words)) {
+      if (!valid) {
         return false;
       }
     }
     return true;
   }
 
+  /* Journal entries, one small object per change. */
+
+  /** Points added to a player's score. */
+  private static final class ScoreChange implements Journal.Change {
+    private final Player player;
+    private final int points;
+
+    ScoreChange(Player player, int points) {
+      this.player = player;
+      this.points = points;
+    }
+
+    @Override
+    public void undo() {
+      player.setScore(player.getScore() - points);
+    }
+
+    @Override
+    public void redo() {
+      player.setScore(player.getScore() + points);
+    }
+  }
+
+  /** A letter tile added to or removed from a player's rack at a given index. */
+  private static final class RackChange implements Journal.Change {
+    private final Player player;
+    private final int index;
+    private final LetterTile letterTile;
+    private final boolean added;
+
+    RackChange(Player player, int index, LetterTile letterTile, boolean added) {
+      this.player = player;
+      this.index = index;
+      this.letterTile = letterTile;
+      this.added = added;
+    }
+
+    @Override
+    public void undo() {
+      if (added) {
+        player.letterTiles().remove(index);
+      } else {
+        player.letterTiles().add(index, letterTile);
+      }
+    }
+
+    @Override
+    public void redo() {
+      if (added) {
+        player.letterTiles().add(index, letterTile);
+      } else {
+        player.letterTiles().remove(index);
+      }
+    }
+  }
+
+  /** A special tile added to or removed from a player's hand at a given index. */
+  private static final class SpecialRackChange implements Journal.Change {
+    private final Player player;
+    private final int index;
+    private final SpecialTile specialTile;
+    private final boolean added;
+
+    SpecialRackChange(Player player, int index, SpecialTile specialTile, boolean added) {
+      this.player = player;
+      this.index = index;
+      this.specialTile = specialTile;
+      this.added = added;
+    }
+
+    @Override
+    public void undo() {
+      if (added) {
+        player.specialTiles().remove(index);
+      } else {
+        player.specialTiles().add(index, specialTile);
+      }
+    }
+
+    @Override
+    public void redo() {
+      if (added) {
+        player.specialTiles().add(index, specialTile);
+      } else {
+        player.specialTiles().remove(index);
+      }
+    }
+  }
+
+  /** Letter tiles put back in the bag in exchange for others. */
+  private static final class BagSwap implements Journal.Change {
+    private final TileBag tileBag;
+    private final List<LetterTile> oldTiles;
+    private final List<LetterTile> newTiles;
+
+    BagSwap(TileBag tileBag, List<LetterTile> oldTiles, List<LetterTile> newTiles) {
+      this.tileBag = tileBag;
+      this.oldTiles = new ArrayList<>(oldTiles);
+      this.newTiles = new ArrayList<>(newTiles);
+    }
+
+    @Override
+    public void undo() {
+      oldTiles.forEach(tileBag::takeTile);
+      newTiles.forEach(tileBag::returnTile);
+    }
+
+    @Override
+    public void redo() {
+      newTiles.forEach(tileBag::takeTile);
+      oldTiles.forEach(tileBag::returnTile);
+    }
+  }
+
+  /** The state of a turn before and after a change to it. */
+  private static final class TurnChange implements Journal.Change {
+    private final Turn target;
+    private final Turn before;
+    private final Turn after;
+
+    TurnChange(Turn target, Turn before, Turn after) {
+      this.target = target;
+      this.before = before;
+      this.after = after;
+    }
+
+    @Override
+    public void undo() {
+      target.restore(before);
+    }
+
+    @Override
+    public void redo() {
+      target.restore(after);
+    }
+  }
+
+  /** The direction of play reversed. Reversing again undoes it. */
+  private final class TurnDirectionChange implements Journal.Change {
+    @Override
+    public void undo() {
+      turnDirection = turnDirection.opposite();
+    }
+
+    @Override
+    public void redo() {
+      turnDirection = turnDirection.opposite();
+    }
+  }
+
+  /** A player added to the end of the list of players who skip their next turn. */
+  private final class SkipChange implements Journal.Change {
+    private final Player player;
+
+    SkipChange(Player player) {
+      this.player = player;
+    }
+
+    @Override
+    public void undo() {
+      skippedPlayers.remove(skippedPlayers.size() - 1);
+    }
+
+    @Override
+    public void redo() {
+      skippedPlayers.add(player);
+    }
+  }
 }
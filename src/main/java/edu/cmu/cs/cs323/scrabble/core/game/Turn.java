@@ -179,6 +179,32 @@ public class Turn {
     return playedMove;
   }
 
+  /**
+   * @return Copy of this turn's state, for the game's journal.
+   */
+  Turn copy() {
+    Turn copy = new Turn(player);
+    copy.restore(this);
+    return copy;
+  }
+
+  /**
+   * Overwrites this turn's state with that of another turn for the same player.
+   *
+   * @param other Turn whose state should be copied.
+   */
+  void restore(Turn other) {
+    triggeredSpecialTiles.clear();
+    for (Map.Entry<Position, List<SpecialTile>> entry : other.triggeredSpecialTiles.entrySet()) {
+      triggeredSpecialTiles.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+    }
+    letterActionTaken = other.letterActionTaken;
+    specialActionTaken = other.specialActionTaken;
+    challengeActionTaken = other.challengeActionTaken;
+    endActionTaken = other.endActionTaken;
+    playedMove = other.playedMove;
+  }
+
   /**
    * Returns the player associated with this turn.
    *
@@ -1,6 +1,7 @@
 package edu.cmu.cs.cs323.scrabble.core.letters;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
@@ -86,6 +87,16 @@ public final class TileBag {
     return tiles.size() == 0;
   }
 
+  /**
+   * Returns a read-only view of the tiles left in the bag, which changes as tiles are drawn and
+   * returned.
+   *
+   * @return Tiles in the bag, in no particular order.
+   */
+  public List<LetterTile> viewOfTiles() {
+    return Collections.unmodifiableList(tiles);
+  }
+
   /**
    * Removes and returns a random tile from the tile bag. Requires the bag is
    * not empty (see {@code isEmpty()}). If a draw is attempted when the bag is
@@ -96,4 +107,23 @@ public final class TileBag {
   public LetterTile drawTile() {
     return tiles.remove(random.nextInt(tiles.size()));
   }
+
+  /**
+   * Puts a tile back into the bag, such as when a draw is undone.
+   *
+   * @param tile Tile to be returned.
+   */
+  public void returnTile(LetterTile tile) {
+    tiles.add(tile);
+  }
+
+  /**
+   * Removes a specific tile from the bag, such as when a draw is redone.
+   *
+   * @param tile Tile to be removed.
+   * @return true if the tile was in the bag, false otherwise.
+   */
+  public boolean takeTile(LetterTile tile) {
+    return tiles.remove(tile);
+  }
 }
@@ -65,7 +65,7 @@ final class BoomSpecialTile implements SpecialTile {
     Set<Position> removedPositions = new HashSet<>();
     for (int i = 0; startRow + i < stopRow; i++) {
       for (int j = 0; startCol + j < stopCol; j++) {
-        Position radialPosition = new Position(startRow + i, startCol + j);
+        Position radialPosition = Position.of(startRow + i, startCol + j);
         removedPositions.add(radialPosition);
         if (board.isValidPosition(radialPosition)) {
           board.pickupLetterTile(radialPosition);
@@ -75,7 +75,7 @@ public final class SpecialTileStore {
     }
     SpecialTileFactory factory = factories.get(specialTileIdentifier);
     int price = prices.get(specialTileIdentifier);
-    player.setScore(player.getScore() + price);
+    player.setScore(player.getScore() - price);
     player.specialTiles().add(factory.create(player));
   }
 
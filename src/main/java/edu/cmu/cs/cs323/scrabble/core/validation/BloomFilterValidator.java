@@ -0,0 +1,169 @@
+package edu.cmu.cs.cs323.scrabble.core.validation;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Hashing;
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator that puts a Bloom filter of the dictionary in front of another WordValidator.
+ *
+ * A word that is not in the filter is definitely not in the dictionary, so garbage letter sequences
+ * are rejected after a few hash probes without touching the wrapped validator. Words that might be
+ * in the dictionary fall through to the wrapped validator, which gives the exact answer.
+ *
+ * The filter must be built from the same word list the wrapped validator uses. If it is missing a
+ * word, that word is rejected even though the wrapped validator would accept it.
+ */
+public class BloomFilterValidator implements WordValidator {
+  private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+
+  private final WordValidator delegate;
+  private final long[] bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final int wordCount;
+  private final LongAdder filterRejections = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  /**
+   * Constructor. Wraps a validator for the bundled dictionary with a filter that admits about 1% of
+   * words that are not in it.
+   *
+   * @param delegate Validator that checks the bundled dictionary exactly.
+   */
+  public BloomFilterValidator(WordValidator delegate) {
+    this(delegate, WordList.defaultWords(), DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * Constructor. Wraps a validator with a filter built from the given words.
+   *
+   * @param delegate Validator that checks the same words exactly.
+   * @param words Every word the delegate accepts.
+   * @param falsePositiveRate Target fraction of invalid words that pass the filter, in (0, 1).
+   */
+  public BloomFilterValidator(WordValidator delegate, WordList words, double falsePositiveRate) {
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("False positive rate must be between 0 and 1.");
+    }
+    this.delegate = delegate;
+    this.wordCount = words.size();
+
+    /* Standard sizing: m = -n ln(p) / ln(2)^2 bits, and k = (m / n) ln(2) hash functions. */
+    int n = Math.max(wordCount, 1);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.bits = new long[(int) ((m + 63) / 64)];
+    this.bitCount = bits.length * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+
+    for (int word = 0; word < words.size(); word++) {
+      add(words.fingerprint(word));
+    }
+  }
+
+  @Override
+  public boolean isValidWord(PlayedWord w) {
+    if (!mightContain(w)) {
+      filterRejections.increment();
+      return false;
+    }
+    boolean valid = delegate.isValidWord(w);
+    if (!valid) {
+      falsePositives.increment();
+    }
+    return valid;
+  }
+
+  /**
+   * Filters the batch, then validates only the words that passed the filter as one batch.
+   *
+   * @param words Words to be tested.
+   * @return Array whose element {@code i} is true if {@code words.get(i)} is valid.
+   */
+  @Override
+  public boolean[] areValidWords(List<PlayedWord> words) {
+    boolean[] results = new boolean[words.size()];
+    List<PlayedWord> possible = new ArrayList<>();
+    List<Integer> possibleIndices = new ArrayList<>();
+    for (int i = 0; i < results.length; i++) {
+      if (mightContain(words.get(i))) {
+        possible.add(words.get(i));
+        possibleIndices.add(i);
+      } else {
+        filterRejections.increment();
+      }
+    }
+    if (!possible.isEmpty()) {
+      boolean[] exact = delegate.areValidWords(possible);
+      for (int i = 0; i < exact.length; i++) {
+        results[possibleIndices.get(i)] = exact[i];
+        if (!exact[i]) {
+          falsePositives.increment();
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * @return Fraction of invalid words expected to pass the filter, given its size and contents.
+   */
+  public double expectedFalsePositiveRate() {
+    return Math.pow(1 - Math.exp(-(double) hashCount * wordCount / bitCount), hashCount);
+  }
+
+  /**
+   * @return Fraction of the invalid words seen so far that passed the filter and had to be rejected
+   *         by the wrapped validator, or 0 if no invalid words have been seen.
+   */
+  public double observedFalsePositiveRate() {
+    long passed = falsePositives.sum();
+    long invalid = passed + filterRejections.sum();
+    return invalid == 0 ? 0 : (double) passed / invalid;
+  }
+
+  /**
+   * @return Number of bytes used by the filter's bit array.
+   */
+  public long memoryBytes() {
+    return bits.length * 8L;
+  }
+
+  /**
+   * @return Number of hash probes made per lookup.
+   */
+  public int hashCount() {
+    return hashCount;
+  }
+
+  /*
+   * The word's precomputed fingerprint is the first hash, and a remix of it the second; both are
+   * full 64-bit hashes, so deriving one from the other costs nothing in accuracy.
+   */
+  private boolean mightContain(PlayedWord w) {
+    long h1 = w.fingerprint();
+    long h2 = Hashing.mix(h1 ^ SEED) | 1;
+    /* Double hashing (Kirsch and Mitzenmacher): probe i is h1 + i * h2. */
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+      if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void add(long fingerprint) {
+    long h1 = fingerprint;
+    long h2 = Hashing.mix(h1 ^ SEED) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+      bits[(int) (bit >>> 6)] |= 1L << bit;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package edu.cmu.cs.cs323.scrabble.core.validation;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.HashedLexicon;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Lexicon;
+
+/**
+ * Implementation of WordValidator that checks words against an in-memory {@link Lexicon}.
+ *
+ * Unlike {@link TextFileValidator}, the dictionary is read once when the lexicon is built, rather
+ * than once per word.
+ */
+public class LexiconValidator implements WordValidator {
+  private final Lexicon lexicon;
+
+  /**
+   * Constructor. Creates a validator backed by the shared lexicon of the bundled dictionary, which
+   * is loaded once per JVM and shared by every validator created this way.
+   */
+  public LexiconValidator() {
+    this(HashedLexicon.defaultLexicon());
+  }
+
+  /**
+   * Constructor. Creates a validator backed by a custom lexicon.
+   *
+   * @param lexicon Lexicon to be used as a dictionary.
+   */
+  public LexiconValidator(Lexicon lexicon) {
+    this.lexicon = lexicon;
+  }
+
+  @Override
+  public boolean isValidWord(PlayedWord w) {
+    return lexicon.contains(w);
+  }
+}
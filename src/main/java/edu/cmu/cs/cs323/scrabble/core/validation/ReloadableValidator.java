@@ -0,0 +1,155 @@
+package edu.cmu.cs.cs323.scrabble.core.validation;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.HashedLexicon;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Lexicon;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * WordValidator meant to be shared by every game in the process, whose dictionary can be replaced
+ * while games are running.
+ *
+ * The validator holds an immutable {@link Lexicon} snapshot in a volatile field. Readers never lock:
+ * each lookup (or batch of lookups) reads the current snapshot once and uses it throughout, so a
+ * challenge that is in flight during a reload sees either the old dictionary or the new one, never
+ * a mix. A reload builds the new lexicon off to the side and then swaps the reference.
+ */
+public class ReloadableValidator implements WordValidator {
+  /* A word list loaded from a file must hold at least this fraction of the current word count. */
+  private static final double MIN_RELATIVE_SIZE = 0.5;
+
+  private volatile Lexicon lexicon;
+
+  /**
+   * Constructor. Starts with the shared lexicon of the bundled dictionary.
+   */
+  public ReloadableValidator() {
+    this(HashedLexicon.defaultLexicon());
+  }
+
+  /**
+   * Constructor. Starts with a custom lexicon.
+   *
+   * @param lexicon Initial dictionary.
+   */
+  public ReloadableValidator(Lexicon lexicon) {
+    this.lexicon = lexicon;
+  }
+
+  @Override
+  public boolean isValidWord(PlayedWord w) {
+    return lexicon.contains(w);
+  }
+
+  @Override
+  public boolean[] areValidWords(List<PlayedWord> words) {
+    Lexicon snapshot = lexicon;
+    boolean[] results = new boolean[words.size()];
+    for (int i = 0; i < results.length; i++) {
+      results[i] = snapshot.contains(words.get(i));
+    }
+    return results;
+  }
+
+  /**
+   * @return The dictionary currently in use.
+   */
+  public Lexicon lexicon() {
+    return lexicon;
+  }
+
+  /**
+   * Atomically replaces the dictionary. Lookups that have already started finish with the old one.
+   *
+   * @param newLexicon New dictionary.
+   */
+  public void reload(Lexicon newLexicon) {
+    if (newLexicon == null) {
+      throw new IllegalArgumentException("Lexicon must be non-null.");
+    }
+    lexicon = newLexicon;
+  }
+
+  /**
+   * Reads a word list file, and replaces the dictionary with it. The new list is checked first: if
+   * it is empty, or holds less than half as many words as the current dictionary, it is taken to be
+   * truncated and rejected. If the file cannot be read or is rejected, the current dictionary is
+   * kept and the exception is thrown.
+   *
+   * @param wordsFile Dictionary file with one word per line.
+   */
+  public void reload(Path wordsFile) {
+    WordList words = WordList.load(wordsFile);
+    if (words.size() == 0 || words.size() < lexicon.size() * MIN_RELATIVE_SIZE) {
+      throw new IllegalArgumentException("Word list in " + wordsFile + " has only " + words.size()
+              + " words, against " + lexicon.size() + " in the current dictionary.");
+    }
+    reload(new HashedLexicon(words));
+  }
+
+  /**
+   * Watches a word list file, and reloads the dictionary from it whenever a new version is moved
+   * into place. Watching happens on a daemon thread until the returned handle is closed.
+   *
+   * The file must be replaced atomically: write the new list to a temporary file in the same
+   * directory, then move it over the old one with {@link java.nio.file.Files#move} and
+   * {@link java.nio.file.StandardCopyOption#ATOMIC_MOVE}. Writes to the file in place are ignored,
+   * since the file could be read while half written. Each new version is checked as by
+   * {@link #reload(Path)}, and if it cannot be read or is rejected, the current dictionary is kept
+   * and the failure is passed to {@code onFailure}.
+   *
+   * @param wordsFile Dictionary file with one word per line.
+   * @param onFailure Called on the watching thread with each failed reload.
+   * @return Handle that stops watching when closed.
+   * @throws IOException if the file's directory cannot be watched.
+   */
+  public Closeable watch(Path wordsFile, Consumer<? super RuntimeException> onFailure)
+          throws IOException {
+    if (onFailure == null) {
+      throw new IllegalArgumentException("Failure callback must be non-null.");
+    }
+    Path file = wordsFile.toAbsolutePath();
+    WatchService watchService = FileSystems.getDefault().newWatchService();
+    /* Moving a file into place is reported as its creation; writing to it in place is not. */
+    file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+
+    Thread watcher = new Thread(() -> {
+      try {
+        while (true) {
+          WatchKey key = watchService.take();
+          boolean replaced = false;
+          for (WatchEvent<?> event : key.pollEvents()) {
+            if (file.getFileName().equals(event.context())) {
+              replaced = true;
+            }
+          }
+          key.reset();
+          if (replaced) {
+            try {
+              reload(file);
+            } catch (RuntimeException e) {
+              onFailure.accept(e);
+            }
+          }
+        }
+      } catch (InterruptedException | ClosedWatchServiceException e) {
+        /* Watching was stopped. */
+      }
+    }, "dictionary-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+    return watchService;
+  }
+}
@@ -6,6 +6,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -27,8 +32,7 @@ public class TextFileValidator implements WordValidator {
    * @param filename Name of file to be used as a dictionary.
    */
   public TextFileValidator(String filename) {
-    // i got tired and forgot what i was doing :-)
-    wordsPath = Paths.get(DEFAULT_FILENAME);
+    wordsPath = Paths.get(filename);
   }
   
   @Override
@@ -37,7 +41,7 @@ public class TextFileValidator implements WordValidator {
     Stream<String> validWordStream;
     try {
       validWordStream = Files.lines(wordsPath);
-      foundWord = validWordStream.anyMatch(s -> s.equals(w.toString().toLowerCase()));
+      foundWord = validWordStream.anyMatch(w::spells);
       validWordStream.close();
     } catch (IOException e) {
       /* The `isFile()` check in the constructor should "fail fast" for most invalid files. I guess it is possible the
@@ -48,5 +52,51 @@ public class TextFileValidator implements WordValidator {
     }
     return foundWord;
   }
-}
 
+  /**
+   * Validates all of the words in a single scan of the dictionary file, stopping as soon as every
+   * word has been found.
+   *
+   * @param words Words to be tested.
+   * @return Array whose element {@code i} is true if {@code words.get(i)} is valid.
+   */
+  @Override
+  public boolean[] areValidWords(List<PlayedWord> words) {
+    boolean[] results = new boolean[words.size()];
+    /* Group the words by fingerprint, since a move can form the same word twice. Each dictionary
+     * line is fingerprinted and only compared letter by letter against words that share it. */
+    Map<Long, List<Integer>> pending = new HashMap<>();
+    for (int i = 0; i < results.length; i++) {
+      pending.computeIfAbsent(words.get(i).fingerprint(), k -> new ArrayList<>()).add(i);
+    }
+    try (Stream<String> validWordStream = Files.lines(wordsPath)) {
+      Iterator<String> lines = validWordStream.iterator();
+      while (!pending.isEmpty() && lines.hasNext()) {
+        String line = lines.next();
+        long fingerprint = PlayedWord.fingerprint(line);
+        List<Integer> indices = pending.get(fingerprint);
+        if (indices != null) {
+          for (Iterator<Integer> it = indices.iterator(); it.hasNext(); ) {
+            int index = it.next();
+            if (words.get(index).spells(line)) {
+              results[index] = true;
+              it.remove();
+            }
+          }
+          if (indices.isEmpty()) {
+            pending.remove(fingerprint);
+          }
+        }
+      }
+    } catch (IOException e) {
+      /* Match isValidWord, which accepts words it could not check. */
+      e.printStackTrace();
+      for (List<Integer> indices : pending.values()) {
+        for (int index : indices) {
+          results[index] = true;
+        }
+      }
+    }
+    return results;
+  }
+}
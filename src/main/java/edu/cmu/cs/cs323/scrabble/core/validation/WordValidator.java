@@ -2,6 +2,8 @@ package edu.cmu.cs.cs323.scrabble.core.validation;
 
 import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
 
+import java.util.List;
+
 /**
  * Defines what words are and are not valid for a game of Scrabble.
  */
@@ -15,4 +17,20 @@ public interface WordValidator {
      */
     boolean isValidWord(PlayedWord w);
 
+    /**
+     * Determines which of several words are allowable scrabble plays, such as all of the words
+     * formed by a single move. Validators that pay a fixed cost per lookup (a file scan, a network
+     * round trip) should override this to answer the whole batch at once.
+     *
+     * @param words Words to be tested.
+     * @return Array whose element {@code i} is true if {@code words.get(i)} is valid.
+     */
+    default boolean[] areValidWords(List<PlayedWord> words) {
+        boolean[] results = new boolean[words.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = isValidWord(words.get(i));
+        }
+        return results;
+    }
+
 }
@@ -0,0 +1,214 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index of the dictionary by letter multiset, for answering "which words can this rack spell".
+ *
+ * Each word's signature is the count of each {@link Letter} in it, four bits per letter, packed into
+ * two {@code long}s (A-M in one, N-Z in the other). Words with the same signature are anagrams of
+ * each other and are stored together in one bucket. A rack query enumerates the sub-multisets of
+ * the rack (at most 2^7 = 128 for a seven tile rack) and looks each one up in a hash table, so its
+ * cost is proportional to the size of the rack's power set plus the size of the answer, no matter
+ * how large the dictionary is.
+ *
+ * Words with more than 15 copies of one letter cannot be represented, and are left out.
+ */
+public final class AnagramIndex {
+  private static final int BITS_PER_LETTER = 4;
+  private static final int MAX_COUNT = (1 << BITS_PER_LETTER) - 1;
+  private static final int LETTERS_PER_HALF = 13;
+  private static final int MIN_WORD_LENGTH = 2;
+
+  private final WordList words;
+  /* Word indices, grouped into runs that share a signature. */
+  private final int[] wordsBySignature;
+  /* Open-addressed table from signature to the run holding its words. */
+  private final long[] tableLow;
+  private final long[] tableHigh;
+  private final int[] runStart;
+  private final int[] runEnd;
+  private final int mask;
+
+  /**
+   * Holder for the index of the bundled dictionary, so that it is built at most once per JVM, and
+   * only when first requested.
+   */
+  private static final class DefaultHolder {
+    private static final AnagramIndex INSTANCE = new AnagramIndex(WordList.defaultWords());
+  }
+
+  /**
+   * Returns the index of the bundled dictionary. The index is built the first time this is called,
+   * and every later call returns the same instance.
+   *
+   * @return Shared anagram index of the bundled dictionary.
+   */
+  public static AnagramIndex defaultIndex() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Constructor. Indexes every word in the list.
+   *
+   * @param words Words to be indexed.
+   */
+  public AnagramIndex(WordList words) {
+    this.words = words;
+
+    int count = 0;
+    long[] lows = new long[words.size()];
+    long[] highs = new long[words.size()];
+    Integer[] order = new Integer[words.size()];
+    for (int word = 0; word < words.size(); word++) {
+      int[] counts = new int[Letter.values().length];
+      boolean representable = true;
+      for (int i = 0; i < words.length(word); i++) {
+        representable &= ++counts[words.letterAt(word, i)] <= MAX_COUNT;
+      }
+      if (representable) {
+        lows[word] = packLow(counts);
+        highs[word] = packHigh(counts);
+        order[count++] = word;
+      }
+    }
+    order = Arrays.copyOf(order, count);
+    Arrays.sort(order, (a, b) -> lows[a] != lows[b]
+            ? Long.compare(lows[a], lows[b]) : Long.compare(highs[a], highs[b]));
+
+    wordsBySignature = new int[count];
+    int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+    tableLow = new long[capacity];
+    tableHigh = new long[capacity];
+    runStart = new int[capacity];
+    runEnd = new int[capacity];
+    mask = capacity - 1;
+    /* Every run ends after at least one word, so a run end of 0 marks an empty slot. */
+    for (int i = 0; i < count; ) {
+      int start = i;
+      long low = lows[order[i]];
+      long high = highs[order[i]];
+      while (i < count && lows[order[i]] == low && highs[order[i]] == high) {
+        wordsBySignature[i] = order[i];
+        i++;
+      }
+      int slot = slot(low, high);
+      while (runEnd[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      tableLow[slot] = low;
+      tableHigh[slot] = high;
+      runStart[slot] = start;
+      runEnd[slot] = i;
+    }
+  }
+
+  /**
+   * Finds every word of two or more letters that uses all of the tiles in the rack.
+   *
+   * @param rack Letter tiles to be arranged.
+   * @return Words spelled with exactly the rack's letters, in upper case.
+   */
+  public List<String> anagramsOf(List<LetterTile> rack) {
+    int[] counts = counts(rack);
+    List<String> results = new ArrayList<>();
+    if (rack.size() < MIN_WORD_LENGTH) {
+      return results;
+    }
+    for (int count : counts) {
+      if (count > MAX_COUNT) {
+        return results;
+      }
+    }
+    collect(packLow(counts), packHigh(counts), results);
+    return results;
+  }
+
+  /**
+   * Finds every word of two or more letters that can be spelled with some of the tiles in the rack.
+   *
+   * @param rack Letter tiles available.
+   * @return Words spelled with a subset of the rack's letters, in upper case.
+   */
+  public List<String> formableWords(List<LetterTile> rack) {
+    int[] counts = counts(rack);
+    for (int letter = 0; letter < counts.length; letter++) {
+      /* No indexed word uses more than MAX_COUNT of a letter, so extra copies cannot help. */
+      counts[letter] = Math.min(counts[letter], MAX_COUNT);
+    }
+    List<String> results = new ArrayList<>();
+    formable(counts, 0, 0L, 0L, 0, results);
+    return results;
+  }
+
+  /* Chooses how many of each letter to use, from letter code `letter` onwards. */
+  private void formable(int[] counts, int letter, long low, long high, int length,
+                        List<String> results) {
+    while (letter < counts.length && counts[letter] == 0) {
+      letter++;
+    }
+    if (letter == counts.length) {
+      if (length >= MIN_WORD_LENGTH) {
+        collect(low, high, results);
+      }
+      return;
+    }
+    for (int used = 0; used <= counts[letter]; used++) {
+      long nextLow = low;
+      long nextHigh = high;
+      if (letter < LETTERS_PER_HALF) {
+        nextLow |= (long) used << (letter * BITS_PER_LETTER);
+      } else {
+        nextHigh |= (long) used << ((letter - LETTERS_PER_HALF) * BITS_PER_LETTER);
+      }
+      formable(counts, letter + 1, nextLow, nextHigh, length + used, results);
+    }
+  }
+
+  private void collect(long low, long high, List<String> results) {
+    int slot = slot(low, high);
+    while (runEnd[slot] != 0) {
+      if (tableLow[slot] == low && tableHigh[slot] == high) {
+        for (int i = runStart[slot]; i < runEnd[slot]; i++) {
+          results.add(words.toString(wordsBySignature[i]));
+        }
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private int slot(long low, long high) {
+    long hash = (low * 0x9E3779B97F4A7C15L) ^ (high * 0xC2B2AE3D27D4EB4FL);
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private static int[] counts(List<LetterTile> rack) {
+    int[] counts = new int[Letter.values().length];
+    for (LetterTile tile : rack) {
+      counts[tile.letter().ordinal()]++;
+    }
+    return counts;
+  }
+
+  private static long packLow(int[] counts) {
+    long packed = 0;
+    for (int letter = 0; letter < LETTERS_PER_HALF; letter++) {
+      packed |= (long) counts[letter] << (letter * BITS_PER_LETTER);
+    }
+    return packed;
+  }
+
+  private static long packHigh(int[] counts) {
+    long packed = 0;
+    for (int letter = LETTERS_PER_HALF; letter < counts.length; letter++) {
+      packed |= (long) counts[letter] << ((letter - LETTERS_PER_HALF) * BITS_PER_LETTER);
+    }
+    return packed;
+  }
+}
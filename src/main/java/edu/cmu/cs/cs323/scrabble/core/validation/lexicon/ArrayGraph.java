@@ -0,0 +1,56 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+/**
+ * {@link FlatGraph} whose node and edge sequences are {@code int} arrays on the heap, shared by the
+ * DAWG and GADDAG.
+ */
+abstract class ArrayGraph extends FlatGraph {
+  private final int[] nodes;
+  private final int[] edges;
+
+  ArrayGraph(int[] nodes, int[] edges) {
+    this.nodes = nodes;
+    this.edges = edges;
+  }
+
+  @Override
+  final int node(int index) {
+    return nodes[index];
+  }
+
+  @Override
+  final int edge(int index) {
+    return edges[index];
+  }
+
+  /**
+   * @return Number of nodes in the graph.
+   */
+  public int nodeCount() {
+    return nodes.length / 2;
+  }
+
+  /**
+   * @return Number of edges in the graph.
+   */
+  public int edgeCount() {
+    return edges.length;
+  }
+
+  /**
+   * @return Approximate number of heap bytes used by the graph's arrays.
+   */
+  public long memoryBytes() {
+    return 4L * (nodes.length + edges.length);
+  }
+
+  /* Raw arrays, for serializing the graph. */
+
+  int[] nodeArray() {
+    return nodes;
+  }
+
+  int[] edgeArray() {
+    return edges;
+  }
+}
@@ -0,0 +1,81 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import java.util.Arrays;
+
+/**
+ * Lexicon stored as a minimized directed acyclic word graph (DAWG).
+ *
+ * Words that share a suffix share the nodes for it, as well as the nodes for any shared prefix, so
+ * the whole dictionary fits in a few hundred kilobytes of {@code int}s. The graph can be walked
+ * letter by letter (see {@link WordGraph}), which is what move search needs to prune dead prefixes.
+ *
+ * Use with {@code new LexiconValidator(Dawg.defaultDawg())} to validate words against it.
+ */
+public final class Dawg extends ArrayGraph {
+  private final int size;
+
+  /**
+   * Holder for the DAWG of the bundled dictionary, so that it is built at most once per JVM, and
+   * only when first requested.
+   */
+  private static final class DefaultHolder {
+    private static final Dawg INSTANCE = build(WordList.defaultWords());
+  }
+
+  Dawg(int[] nodes, int[] edges, int size) {
+    super(nodes, edges);
+    this.size = size;
+  }
+
+  /**
+   * Returns the DAWG for the bundled dictionary. The graph is built the first time this is called,
+   * and every later call returns the same instance.
+   *
+   * @return Shared DAWG of the bundled dictionary.
+   */
+  public static Dawg defaultDawg() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Builds a minimized DAWG containing every word in the list.
+   *
+   * @param words Words to include in the graph.
+   * @return DAWG of the words.
+   */
+  public static Dawg build(WordList words) {
+    GraphBuilder builder = new GraphBuilder();
+    for (int word : sortedIndices(words)) {
+      builder.add(words.codes(word), words.length(word));
+    }
+    int[][] graph = builder.build();
+    return new Dawg(graph[0], graph[1], builder.sequences());
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param words Word list.
+   * @return Indices of the words in the list, in alphabetical order.
+   */
+  static Integer[] sortedIndices(WordList words) {
+    Integer[] order = new Integer[words.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> {
+      int shared = Math.min(words.length(a), words.length(b));
+      for (int i = 0; i < shared; i++) {
+        int diff = words.letterAt(a, i) - words.letterAt(b, i);
+        if (diff != 0) {
+          return diff;
+        }
+      }
+      return words.length(a) - words.length(b);
+    });
+    return order;
+  }
+}
@@ -0,0 +1,56 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+/**
+ * Graph stored as two flat sequences of {@code int}s, wherever they are kept: on the heap for the
+ * DAWG and GADDAG, or in a memory-mapped file for {@link MappedDawg}.
+ *
+ * <pre>
+ *   nodes[2n]     bit mask of the edge labels leaving node n, plus TERMINAL if n ends a word
+ *   nodes[2n + 1] index in edges of node n's first outgoing edge
+ *   edges[i]      target node of an edge
+ * </pre>
+ *
+ * A node's edges are stored in label order, so the edge for letter code {@code c} is found by
+ * counting the labels below {@code c} in the mask. The root is node 0. Subclasses only say how to
+ * read the two sequences; walking them is done here.
+ */
+abstract class FlatGraph implements WordGraph {
+  /** Flag bit in a node's mask marking the end of a word. Labels use bits 0-26. */
+  static final int TERMINAL = 1 << 27;
+  static final int LABEL_MASK = TERMINAL - 1;
+
+  /**
+   * @return Element {@code index} of the node sequence.
+   */
+  abstract int node(int index);
+
+  /**
+   * @return Element {@code index} of the edge sequence.
+   */
+  abstract int edge(int index);
+
+  @Override
+  public final int root() {
+    return 0;
+  }
+
+  @Override
+  public final int child(int node, int letterCode) {
+    int mask = node(node * 2);
+    int bit = 1 << letterCode;
+    if ((mask & bit) == 0) {
+      return NONE;
+    }
+    return edge(node(node * 2 + 1) + Integer.bitCount(mask & (bit - 1)));
+  }
+
+  @Override
+  public final boolean isTerminal(int node) {
+    return (node(node * 2) & TERMINAL) != 0;
+  }
+
+  @Override
+  public final int childMask(int node) {
+    return node(node * 2) & LABEL_MASK;
+  }
+}
@@ -0,0 +1,132 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lexicon stored as a minimized GADDAG, a word graph that can be entered from any letter of a word.
+ *
+ * Every word {@code w = xy} (with {@code x} non-empty) is stored once per split point as
+ * {@code reverse(x) SEPARATOR y}, or just {@code reverse(w)} when {@code y} is empty. For "CARE":
+ *
+ * <pre>
+ *   C^ARE   AC^RE   RAC^E   ERAC
+ * </pre>
+ *
+ * A search starting from an anchor tile on the board follows the anchor's letter, then extends to
+ * the LEFT/UP one letter at a time (the reversed prefix), and at any point may follow
+ * {@link #SEPARATOR} to switch to extending RIGHT/DOWN. This mirrors the way
+ * {@code Board.getContinuousWord} walks backwards to the start of a word and then forwards, and
+ * lets move generation grow words in both directions around an anchor without ever building a
+ * prefix that cannot be completed.
+ *
+ * Note that {@link #nodeFor} and {@link #hasPrefix} walk the stored sequences as-is, so they test
+ * reversed prefixes rather than prefixes.
+ */
+public final class Gaddag extends ArrayGraph {
+  /** Edge label that separates the reversed prefix from the suffix of a word. */
+  public static final int SEPARATOR = 26;
+
+  private final int size;
+
+  /**
+   * Holder for the GADDAG of the bundled dictionary, so that it is built at most once per JVM, and
+   * only when first requested.
+   */
+  private static final class DefaultHolder {
+    private static final Gaddag INSTANCE = build(WordList.defaultWords());
+  }
+
+  private Gaddag(int[] nodes, int[] edges, int size) {
+    super(nodes, edges);
+    this.size = size;
+  }
+
+  /**
+   * Returns the GADDAG for the bundled dictionary. The graph is built the first time this is
+   * called, and every later call returns the same instance.
+   *
+   * @return Shared GADDAG of the bundled dictionary.
+   */
+  public static Gaddag defaultGaddag() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Builds a minimized GADDAG containing every word in the list.
+   *
+   * @param words Words to include in the graph.
+   * @return GADDAG of the words.
+   */
+  public static Gaddag build(WordList words) {
+    List<byte[]> sequences = new ArrayList<>();
+    int distinct = 0;
+    byte[] last = null;
+    for (int word : Dawg.sortedIndices(words)) {
+      byte[] codes = words.codes(word);
+      if (last != null && Arrays.equals(last, codes)) {
+        continue;
+      }
+      last = codes;
+      distinct++;
+      for (int split = 1; split <= codes.length; split++) {
+        int length = split == codes.length ? codes.length : codes.length + 1;
+        byte[] sequence = new byte[length];
+        for (int i = 0; i < split; i++) {
+          sequence[i] = codes[split - 1 - i];
+        }
+        if (split < codes.length) {
+          sequence[split] = SEPARATOR;
+          System.arraycopy(codes, split, sequence, split + 1, codes.length - split);
+        }
+        sequences.add(sequence);
+      }
+    }
+    sequences.sort(Gaddag::compare);
+
+    GraphBuilder builder = new GraphBuilder();
+    for (byte[] sequence : sequences) {
+      builder.add(sequence, sequence.length);
+    }
+    int[][] graph = builder.build();
+    return new Gaddag(graph[0], graph[1], distinct);
+  }
+
+  /**
+   * Follows the separator edge, switching from extending a word backwards to extending it forwards.
+   *
+   * @param node Node reached by walking a reversed prefix.
+   * @return Node from which the rest of the word can be walked forwards, or {@link #NONE} if no
+   *         word begins with exactly the walked prefix.
+   */
+  public int separator(int node) {
+    return child(node, SEPARATOR);
+  }
+
+  @Override
+  public boolean contains(PlayedWord word) {
+    /* The full reversal of a word is stored without a separator. */
+    int node = root();
+    for (int i = word.length() - 1; i >= 0 && node != NONE; i--) {
+      node = child(node, word.letterCode(i));
+    }
+    return node != NONE && isTerminal(node);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private static int compare(byte[] a, byte[] b) {
+    for (int i = 0; i < Math.min(a.length, b.length); i++) {
+      if (a[i] != b[i]) {
+        return a[i] - b[i];
+      }
+    }
+    return a.length - b.length;
+  }
+}
@@ -0,0 +1,189 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a minimized acyclic graph from symbol sequences that are added in sorted order, using the
+ * incremental algorithm of Daciuk et al. Only the path of the most recently added sequence is
+ * unminimized at any time, so memory stays proportional to the size of the finished graph.
+ *
+ * Symbols are letter codes (0-25) plus the GADDAG separator (26). The result is the pair of flat
+ * arrays read by {@link ArrayGraph}.
+ */
+final class GraphBuilder {
+  private final Map<State, State> register = new HashMap<>();
+  private final List<State> registered = new ArrayList<>();
+  private final State root = new State();
+  private byte[] previous = new byte[0];
+  private int previousLength = -1;
+  private int sequences = 0;
+
+  /**
+   * Adds a sequence to the graph. Sequences must be added in ascending lexicographic order of their
+   * symbols; repeating the previous sequence is allowed and has no effect.
+   *
+   * @param symbols Array holding the sequence.
+   * @param length Number of symbols in the sequence, starting at index 0.
+   */
+  void add(byte[] symbols, int length) {
+    int order = compare(previous, previousLength, symbols, length);
+    if (order > 0) {
+      throw new IllegalArgumentException("Sequences must be added in sorted order.");
+    }
+    if (order == 0) {
+      return;
+    }
+
+    /* Follow the prefix this sequence shares with the previous one. */
+    int common = 0;
+    State state = root;
+    while (common < length && state.lastLabel() == symbols[common]) {
+      state = state.lastChild();
+      common++;
+    }
+
+    /* The previous sequence's path below this point can never change again, so minimize it. */
+    if (state.count > 0) {
+      replaceOrRegister(state);
+    }
+
+    for (int i = common; i < length; i++) {
+      State next = new State();
+      state.append(symbols[i], next);
+      state = next;
+    }
+    state.terminal = true;
+    sequences++;
+
+    if (previous.length < length) {
+      previous = new byte[Math.max(length, previous.length * 2)];
+    }
+    System.arraycopy(symbols, 0, previous, 0, length);
+    previousLength = length;
+  }
+
+  /**
+   * @return Number of distinct sequences added so far.
+   */
+  int sequences() {
+    return sequences;
+  }
+
+  /**
+   * Minimizes the remaining path and flattens the graph. The root is always node 0.
+   *
+   * @return {@code {nodes, edges}} arrays in the layout described by {@link FlatGraph}.
+   */
+  int[][] build() {
+    if (root.count > 0) {
+      replaceOrRegister(root);
+    }
+    /* States are registered children-first, so reversing the order puts the root at index 0. */
+    root.id = registered.size();
+    registered.add(root);
+
+    int nodeCount = registered.size();
+    int edgeCount = 0;
+    for (State state : registered) {
+      edgeCount += state.count;
+    }
+    int[] nodes = new int[nodeCount * 2];
+    int[] edges = new int[edgeCount];
+    int edge = 0;
+    for (int node = 0; node < nodeCount; node++) {
+      State state = registered.get(nodeCount - 1 - node);
+      int mask = state.terminal ? FlatGraph.TERMINAL : 0;
+      nodes[node * 2 + 1] = edge;
+      for (int i = 0; i < state.count; i++) {
+        mask |= 1 << state.labels[i];
+        edges[edge++] = nodeCount - 1 - state.targets[i].id;
+      }
+      nodes[node * 2] = mask;
+    }
+    return new int[][] {nodes, edges};
+  }
+
+  private void replaceOrRegister(State state) {
+    State child = state.lastChild();
+    if (child.count > 0) {
+      replaceOrRegister(child);
+    }
+    State equivalent = register.get(child);
+    if (equivalent != null) {
+      state.targets[state.count - 1] = equivalent;
+    } else {
+      child.id = registered.size();
+      registered.add(child);
+      register.put(child, child);
+    }
+  }
+
+  private static int compare(byte[] a, int aLength, byte[] b, int bLength) {
+    if (aLength < 0) {
+      return -1;
+    }
+    for (int i = 0; i < Math.min(aLength, bLength); i++) {
+      if (a[i] != b[i]) {
+        return a[i] - b[i];
+      }
+    }
+    return aLength - bLength;
+  }
+
+  /**
+   * A node under construction. Outgoing edges are appended in label order, which the sorted input
+   * guarantees. Once a state is registered its edges never change, so its hash is stable.
+   */
+  private static final class State {
+    private byte[] labels = new byte[2];
+    private State[] targets = new State[2];
+    private int count = 0;
+    private boolean terminal = false;
+    private int id = -1;
+
+    void append(byte label, State target) {
+      if (count == labels.length) {
+        labels = Arrays.copyOf(labels, count * 2);
+        targets = Arrays.copyOf(targets, count * 2);
+      }
+      labels[count] = label;
+      targets[count] = target;
+      count++;
+    }
+
+    int lastLabel() {
+      return count == 0 ? -1 : labels[count - 1];
+    }
+
+    State lastChild() {
+      return targets[count - 1];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      State otherState = (State) other;
+      if (terminal != otherState.terminal || count != otherState.count) {
+        return false;
+      }
+      for (int i = 0; i < count; i++) {
+        if (labels[i] != otherState.labels[i] || targets[i] != otherState.targets[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = terminal ? 1 : 0;
+      for (int i = 0; i < count; i++) {
+        hash = 31 * (31 * hash + labels[i]) + targets[i].id;
+      }
+      return hash;
+    }
+  }
+}
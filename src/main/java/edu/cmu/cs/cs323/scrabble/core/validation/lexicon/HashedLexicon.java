@@ -0,0 +1,125 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+
+import java.util.Arrays;
+
+/**
+ * Lexicon backed by an open-addressed hash table of letter codes.
+ *
+ * The words themselves live in the {@link WordList}'s shared letter array. The table only holds
+ * word indices and their hashes. Each hash is derived from the word's fingerprint, the same one
+ * every {@link PlayedWord} computes when it is created, so a lookup starts probing without hashing
+ * anything, and compares letter codes directly. Lookups do not allocate and cost O(word length).
+ */
+public final class HashedLexicon implements Lexicon {
+  private static final int EMPTY = -1;
+
+  private final WordList words;
+  private final int[] slots;
+  private final int[] hashes;
+  private final int mask;
+  private final int size;
+
+  /**
+   * Holder for the lexicon of the bundled dictionary, so that it is loaded at most once per JVM,
+   * and only when first requested.
+   */
+  private static final class DefaultHolder {
+    private static final HashedLexicon INSTANCE = new HashedLexicon(WordList.defaultWords());
+  }
+
+  /**
+   * Returns the lexicon for the bundled dictionary. The dictionary is read the first time this is
+   * called, and every later call (from any game, on any thread) returns the same instance.
+   *
+   * @return Shared lexicon of the bundled dictionary.
+   */
+  public static HashedLexicon defaultLexicon() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Constructor. Builds a hash table over every word in the list. Duplicate words are stored once.
+   *
+   * @param words Words to include in the lexicon.
+   */
+  public HashedLexicon(WordList words) {
+    this.words = words;
+    this.hashes = new int[words.size()];
+    /* Keep the load factor at or below one half so that probe sequences stay short. */
+    int capacity = Integer.highestOneBit(Math.max(words.size(), 1) * 2 - 1) << 1;
+    this.slots = new int[capacity];
+    this.mask = capacity - 1;
+    Arrays.fill(slots, EMPTY);
+
+    int count = 0;
+    for (int word = 0; word < words.size(); word++) {
+      int hash = hash(words, word);
+      hashes[word] = hash;
+      int slot = hash & mask;
+      boolean duplicate = false;
+      while (slots[slot] != EMPTY) {
+        if (hashes[slots[slot]] == hash && sameWord(slots[slot], word)) {
+          duplicate = true;
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+      if (!duplicate) {
+        slots[slot] = word;
+        count++;
+      }
+    }
+    this.size = count;
+  }
+
+  @Override
+  public boolean contains(PlayedWord word) {
+    int hash = word.hashCode();
+    int slot = hash & mask;
+    while (slots[slot] != EMPTY) {
+      int candidate = slots[slot];
+      if (hashes[candidate] == hash && matches(candidate, word)) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private boolean matches(int candidate, PlayedWord word) {
+    if (words.length(candidate) != word.length()) {
+      return false;
+    }
+    for (int i = 0; i < word.length(); i++) {
+      if (words.letterAt(candidate, i) != word.letterCode(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean sameWord(int a, int b) {
+    if (words.length(a) != words.length(b)) {
+      return false;
+    }
+    for (int i = 0; i < words.length(a); i++) {
+      if (words.letterAt(a, i) != words.letterAt(b, i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /* Matches PlayedWord.hashCode() of the same letters. */
+  private static int hash(WordList words, int word) {
+    long fingerprint = words.fingerprint(word);
+    return (int) (fingerprint ^ (fingerprint >>> 32));
+  }
+}
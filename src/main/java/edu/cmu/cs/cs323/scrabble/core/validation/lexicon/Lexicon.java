@@ -0,0 +1,24 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+
+/**
+ * An in-memory set of dictionary words. Lexicons are immutable once built, so a single instance
+ * can be shared by any number of games and threads.
+ */
+public interface Lexicon {
+
+  /**
+   * Determines whether the letters of the given word form a word in this lexicon.
+   *
+   * @param word Word to look up.
+   * @return true if the word is in the lexicon, false otherwise.
+   */
+  boolean contains(PlayedWord word);
+
+  /**
+   * @return Number of words stored in the lexicon.
+   */
+  int size();
+
+}
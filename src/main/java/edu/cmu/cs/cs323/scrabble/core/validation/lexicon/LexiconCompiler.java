@@ -0,0 +1,77 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compiles a word list into a binary DAWG image that {@link MappedDawg} can map straight into
+ * memory. Run by the {@code compileLexicon} build task.
+ *
+ * The image is a header followed by the DAWG's two arrays, all as big-endian {@code int}s:
+ *
+ * <pre>
+ *   MAGIC, VERSION, word count, node count, edge count
+ *   nodes[0 .. 2 * node count)
+ *   edges[0 .. edge count)
+ * </pre>
+ *
+ * The node and edge arrays use the layout described in {@link FlatGraph}.
+ */
+public final class LexiconCompiler {
+  /** "SWSD" in ASCII. */
+  static final int MAGIC = 0x53575344;
+  static final int VERSION = 1;
+  static final int HEADER_INTS = 5;
+
+  private LexiconCompiler() {
+  }
+
+  /**
+   * Compiles a word list file into a DAWG image.
+   *
+   * @param args {@code <words file> <image file>}
+   * @throws IOException if the word list cannot be read or the image cannot be written.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: LexiconCompiler <words file> <image file>");
+      System.exit(1);
+    }
+    Dawg dawg = Dawg.build(WordList.load(Paths.get(args[0])));
+    write(dawg, Paths.get(args[1]));
+    System.out.printf("Compiled %d words into %d nodes and %d edges.%n",
+            dawg.size(), dawg.nodeCount(), dawg.edgeCount());
+  }
+
+  /**
+   * Writes the DAWG image for the given graph, replacing any existing file.
+   *
+   * @param dawg Graph to be written.
+   * @param image Location of the image file.
+   * @throws IOException if the image cannot be written.
+   */
+  public static void write(Dawg dawg, Path image) throws IOException {
+    int[] nodes = dawg.nodeArray();
+    int[] edges = dawg.edgeArray();
+    ByteBuffer buffer = ByteBuffer.allocate(4 * (HEADER_INTS + nodes.length + edges.length));
+    IntBuffer ints = buffer.asIntBuffer();
+    ints.put(MAGIC).put(VERSION).put(dawg.size()).put(dawg.nodeCount()).put(dawg.edgeCount());
+    ints.put(nodes).put(edges);
+
+    if (image.getParent() != null) {
+      Files.createDirectories(image.getParent());
+    }
+    try (FileChannel channel = FileChannel.open(image, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    }
+  }
+}
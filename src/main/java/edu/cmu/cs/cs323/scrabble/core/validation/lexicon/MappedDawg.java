@@ -0,0 +1,82 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * DAWG read directly from a memory-mapped image written by {@link LexiconCompiler}.
+ *
+ * Opening an image only maps the file and checks its header, so startup costs almost nothing
+ * regardless of dictionary size. Lookups read the mapping in place rather than copying it onto the
+ * heap, and because the mapping is read-only, every JVM on a host that opens the same image shares
+ * a single copy of it in the page cache.
+ *
+ * Use with {@code new LexiconValidator(MappedDawg.open(path))} to validate words against it.
+ */
+public final class MappedDawg extends FlatGraph {
+  private final IntBuffer nodes;
+  private final IntBuffer edges;
+  private final int size;
+
+  private MappedDawg(IntBuffer nodes, IntBuffer edges, int size) {
+    this.nodes = nodes;
+    this.edges = edges;
+    this.size = size;
+  }
+
+  /**
+   * Maps a DAWG image into memory.
+   *
+   * @param image Location of an image written by {@link LexiconCompiler}.
+   * @return DAWG backed by the mapping.
+   * @throws IOException if the file cannot be mapped, or is not a DAWG image.
+   */
+  public static MappedDawg open(Path image) throws IOException {
+    MappedByteBuffer mapping;
+    try (FileChannel channel = FileChannel.open(image, StandardOpenOption.READ)) {
+      /* The mapping stays valid after the channel is closed. */
+      mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    IntBuffer ints = mapping.asIntBuffer();
+    if (ints.limit() < LexiconCompiler.HEADER_INTS
+            || ints.get(0) != LexiconCompiler.MAGIC
+            || ints.get(1) != LexiconCompiler.VERSION) {
+      throw new IOException("Not a DAWG image: " + image);
+    }
+    int size = ints.get(2);
+    int nodeInts = ints.get(3) * 2;
+    int edgeCount = ints.get(4);
+    if (ints.limit() != LexiconCompiler.HEADER_INTS + nodeInts + edgeCount) {
+      throw new IOException("Truncated DAWG image: " + image);
+    }
+
+    ints.position(LexiconCompiler.HEADER_INTS);
+    ints.limit(LexiconCompiler.HEADER_INTS + nodeInts);
+    IntBuffer nodes = ints.slice();
+    ints.limit(LexiconCompiler.HEADER_INTS + nodeInts + edgeCount);
+    ints.position(LexiconCompiler.HEADER_INTS + nodeInts);
+    IntBuffer edges = ints.slice();
+    return new MappedDawg(nodes, edges, size);
+  }
+
+  /* Only absolute gets are used, so concurrent readers never disturb each other. */
+
+  @Override
+  int node(int index) {
+    return nodes.get(index);
+  }
+
+  @Override
+  int edge(int index) {
+    return edges.get(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
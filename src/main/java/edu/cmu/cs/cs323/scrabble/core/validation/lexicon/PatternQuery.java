@@ -0,0 +1,214 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Constrained dictionary query, such as "five letter words matching ?A??S whose open letters all
+ * come from this rack".
+ *
+ * A pattern has one slot per letter of the word. A slot is either fixed to a letter (a tile already
+ * on the board) or open, in which case it must be filled with a letter from the rack. Open slots
+ * can also be limited to a set of letters, such as the letters that form valid cross words there.
+ * The query walks a {@link WordGraph} depth first and only follows edges that satisfy the slot and
+ * that the rack can still pay for, so whole subtrees of the dictionary are skipped at once.
+ *
+ * Queries are immutable; the {@code with...} methods return modified copies.
+ */
+public final class PatternQuery {
+  private static final int ALL_LETTERS = (1 << 26) - 1;
+  private static final int OPEN = -1;
+
+  private final int[] fixed;
+  private final int[] allowed;
+  private final int[] rack;
+
+  private PatternQuery(int[] fixed, int[] allowed, int[] rack) {
+    this.fixed = fixed;
+    this.allowed = allowed;
+    this.rack = rack;
+  }
+
+  /**
+   * Creates a query from a textual pattern. Letters (either case) are fixed slots, and {@code ?} or
+   * {@code .} are open slots. Without a rack, open slots accept any letter.
+   *
+   * @param pattern Pattern such as {@code "?A??S"}.
+   * @return Query for words matching the pattern.
+   */
+  public static PatternQuery parse(String pattern) {
+    int[] fixed = new int[pattern.length()];
+    for (int i = 0; i < fixed.length; i++) {
+      char c = pattern.charAt(i);
+      if (c == '?' || c == '.') {
+        fixed[i] = OPEN;
+      } else if (WordList.letterCode(c) >= 0) {
+        fixed[i] = WordList.letterCode(c);
+      } else {
+        throw new IllegalArgumentException("Invalid pattern character: " + c);
+      }
+    }
+    return of(fixed);
+  }
+
+  /**
+   * Creates a query for a segment of a row or column of the board.
+   *
+   * @param slots Letter already on each square of the segment, or null for empty squares.
+   * @return Query for words that fit the segment.
+   */
+  public static PatternQuery of(Letter[] slots) {
+    int[] fixed = new int[slots.length];
+    for (int i = 0; i < fixed.length; i++) {
+      fixed[i] = slots[i] == null ? OPEN : slots[i].ordinal();
+    }
+    return of(fixed);
+  }
+
+  private static PatternQuery of(int[] fixed) {
+    int[] allowed = new int[fixed.length];
+    Arrays.fill(allowed, ALL_LETTERS);
+    return new PatternQuery(fixed, allowed, null);
+  }
+
+  /**
+   * Requires open slots to be filled from the given rack. Each tile may be used once.
+   *
+   * @param tiles Letter tiles available to fill open slots.
+   * @return Copy of this query limited to the rack.
+   */
+  public PatternQuery withRack(List<LetterTile> tiles) {
+    int[] counts = new int[Letter.values().length];
+    for (LetterTile tile : tiles) {
+      counts[tile.letter().ordinal()]++;
+    }
+    return new PatternQuery(fixed, allowed, counts);
+  }
+
+  /**
+   * Limits an open slot to a set of letters.
+   *
+   * @param slot Index of the slot in the pattern.
+   * @param letterMask Bit mask with bit {@code Letter.ordinal()} set for each letter allowed.
+   * @return Copy of this query with the slot limited.
+   */
+  public PatternQuery withAllowedLetters(int slot, int letterMask) {
+    int[] newAllowed = allowed.clone();
+    newAllowed[slot] &= letterMask;
+    return new PatternQuery(fixed, newAllowed, rack);
+  }
+
+  /**
+   * @return Number of letters in words matching this query.
+   */
+  public int length() {
+    return fixed.length;
+  }
+
+  /**
+   * Lazily finds the words in the graph that match this query, in alphabetical order. The search
+   * only runs as far as the stream is consumed, so {@code findFirst()} or {@code limit(n)} stop
+   * it early.
+   *
+   * @param graph Dictionary walked from the start of each word forwards, such as a {@link Dawg}.
+   * @return Stream of matching words, in upper case.
+   */
+  public Stream<String> matches(WordGraph graph) {
+    return StreamSupport.stream(new Search(graph), false);
+  }
+
+  /**
+   * Depth first search over the graph with an explicit stack, so that it can pause after each
+   * match. Depth {@code d} means {@code d} letters have been chosen.
+   */
+  private final class Search extends Spliterators.AbstractSpliterator<String> {
+    private final WordGraph graph;
+    private final int[] nodes = new int[fixed.length + 1];
+    private final int[] letters = new int[fixed.length];
+    /* Lowest letter code not yet tried at each depth. */
+    private final int[] cursors = new int[fixed.length + 1];
+    private final int[] counts = rack == null ? null : rack.clone();
+    private int depth = 0;
+    private boolean done = false;
+
+    Search(WordGraph graph) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+      this.graph = graph;
+      nodes[0] = graph.root();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+      while (!done) {
+        if (depth == fixed.length) {
+          boolean match = graph.isTerminal(nodes[depth]);
+          String word = match ? currentWord() : null;
+          backtrack();
+          if (match) {
+            action.accept(word);
+            return true;
+          }
+        } else if (!descend()) {
+          backtrack();
+        }
+      }
+      return false;
+    }
+
+    /* Chooses the next untried letter at the current depth, if any can lead to a match. */
+    private boolean descend() {
+      int node = nodes[depth];
+      int candidates = graph.childMask(node) & allowed[depth];
+      if (fixed[depth] != OPEN) {
+        candidates &= 1 << fixed[depth];
+      }
+      candidates &= ALL_LETTERS << cursors[depth];
+      while (candidates != 0) {
+        int letter = Integer.numberOfTrailingZeros(candidates);
+        candidates &= candidates - 1;
+        boolean fromRack = fixed[depth] == OPEN && counts != null;
+        if (fromRack && counts[letter] == 0) {
+          continue;
+        }
+        if (fromRack) {
+          counts[letter]--;
+        }
+        letters[depth] = letter;
+        cursors[depth] = letter + 1;
+        nodes[depth + 1] = graph.child(node, letter);
+        depth++;
+        cursors[depth] = 0;
+        return true;
+      }
+      return false;
+    }
+
+    /* Steps back to the previous depth, returning its letter to the rack. */
+    private void backtrack() {
+      if (depth == 0) {
+        done = true;
+        return;
+      }
+      depth--;
+      if (fixed[depth] == OPEN && counts != null) {
+        counts[letters[depth]]++;
+      }
+    }
+
+    private String currentWord() {
+      char[] chars = new char[fixed.length];
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = (char) ('A' + letters[i]);
+      }
+      return new String(chars);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+
+/**
+ * A lexicon stored as a graph of letter transitions, which can be walked one letter at a time.
+ *
+ * Nodes are identified by non-negative {@code int}s, and a word is in the lexicon if following its
+ * letter codes from {@link #root()} ends on a terminal node. Walking letter by letter answers
+ * prefix queries ("can any word start with QU?"), which a hash-based lexicon cannot.
+ */
+public interface WordGraph extends Lexicon {
+  /** Node value returned when a transition does not exist. */
+  int NONE = -1;
+
+  /**
+   * @return The node representing the empty prefix.
+   */
+  int root();
+
+  /**
+   * Follows the edge labelled with the given letter code.
+   *
+   * @param node Node to start from.
+   * @param letterCode Letter code ({@code Letter.ordinal()}) of the edge to follow.
+   * @return The node reached, or {@link #NONE} if no word continues with that letter.
+   */
+  int child(int node, int letterCode);
+
+  /**
+   * @param node Node in question.
+   * @return true if the letters leading to the node form a complete word.
+   */
+  boolean isTerminal(int node);
+
+  /**
+   * @param node Node in question.
+   * @return Bit mask with bit {@code i} set if the node has an edge labelled with letter code
+   *         {@code i}.
+   */
+  int childMask(int node);
+
+  /**
+   * Walks the letters of the given sequence from the root.
+   *
+   * @param letters Letters to walk, in the range A-Z (either case).
+   * @return The node reached after the final letter, or {@link #NONE} if no word has that prefix.
+   */
+  default int nodeFor(CharSequence letters) {
+    int node = root();
+    for (int i = 0; i < letters.length() && node != NONE; i++) {
+      int code = WordList.letterCode(letters.charAt(i));
+      node = code < 0 ? NONE : child(node, code);
+    }
+    return node;
+  }
+
+  /**
+   * @param prefix Letters to test, in the range A-Z (either case).
+   * @return true if at least one word in the lexicon starts with {@code prefix}.
+   */
+  default boolean hasPrefix(CharSequence prefix) {
+    return nodeFor(prefix) != NONE;
+  }
+
+  @Override
+  default boolean contains(PlayedWord word) {
+    int node = root();
+    for (int i = 0; i < word.length() && node != NONE; i++) {
+      node = child(node, word.letterCode(i));
+    }
+    return node != NONE && isTerminal(node);
+  }
+}
@@ -0,0 +1,211 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * A word list read from a dictionary file, with each word stored as a run of letter codes (the
+ * {@code ordinal()} of its {@link Letter}s) in one shared array. This is the raw input that the
+ * lexicon structures in this package are built from.
+ *
+ * Lines are trimmed and case-insensitive. Lines that are empty or contain anything other than the
+ * letters A-Z are skipped, since they could never be spelled with letter tiles.
+ */
+public final class WordList {
+  /** Classpath location of the bundled dictionary. */
+  public static final String DEFAULT_RESOURCE = "/words.txt";
+  /** Location of the bundled dictionary when running from the project directory. */
+  public static final String DEFAULT_FILENAME = "src/main/resources/words.txt";
+
+  private final byte[] letters;
+  private final int[] offsets;
+  private final int size;
+
+  private WordList(byte[] letters, int[] offsets, int size) {
+    this.letters = letters;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /**
+   * Loads the bundled dictionary, preferring the copy on the classpath and falling back to the
+   * copy in the project directory.
+   *
+   * @return Word list for the default dictionary.
+   */
+  public static WordList defaultWords() {
+    InputStream resource = WordList.class.getResourceAsStream(DEFAULT_RESOURCE);
+    if (resource == null) {
+      return load(Paths.get(DEFAULT_FILENAME));
+    }
+    try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+      return read(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Loads a dictionary file containing one word per line.
+   *
+   * @param path Location of the dictionary file.
+   * @return Word list for the file.
+   */
+  public static WordList load(Path path) {
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      return read(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates a word list from the given words.
+   *
+   * @param words Words to include in the list.
+   * @return Word list containing every spellable word in {@code words}.
+   */
+  public static WordList of(Iterable<String> words) {
+    Builder builder = new Builder();
+    for (String word : words) {
+      builder.add(word);
+    }
+    return builder.build();
+  }
+
+  private static WordList read(BufferedReader reader) throws IOException {
+    Builder builder = new Builder();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      builder.add(line);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Converts a character to its letter code.
+   *
+   * @param c Character in the range a-z or A-Z.
+   * @return Letter code of {@code c}, or -1 if it is not a letter.
+   */
+  public static int letterCode(char c) {
+    if (c >= 'a' && c <= 'z') {
+      return c - 'a';
+    }
+    if (c >= 'A' && c <= 'Z') {
+      return c - 'A';
+    }
+    return -1;
+  }
+
+  /**
+   * @return Number of words in the list.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @param word Index of a word in the list.
+   * @return Number of letters in the word.
+   */
+  public int length(int word) {
+    return offsets[word + 1] - offsets[word];
+  }
+
+  /**
+   * @param word Index of a word in the list.
+   * @param index Index of a letter within the word.
+   * @return Letter code of the letter.
+   */
+  public int letterAt(int word, int index) {
+    return letters[offsets[word] + index];
+  }
+
+  /**
+   * @param word Index of a word in the list.
+   * @return The word's {@link PlayedWord#fingerprint()}, computed from the shared letter array.
+   */
+  public long fingerprint(int word) {
+    return PlayedWord.fingerprint(letters, offsets[word], offsets[word + 1]);
+  }
+
+  /**
+   * @param word Index of a word in the list.
+   * @return A copy of the letter codes of the word.
+   */
+  public byte[] codes(int word) {
+    return Arrays.copyOfRange(letters, offsets[word], offsets[word + 1]);
+  }
+
+  /**
+   * @param word Index of a word in the list.
+   * @return The word, spelled with the upper case letters used by {@link Letter#toString()}.
+   */
+  public String toString(int word) {
+    char[] chars = new char[length(word)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('A' + letterAt(word, i));
+    }
+    return new String(chars);
+  }
+
+  /* Package private accessors so the builders in this package can read the pool directly. */
+
+  byte[] letterPool() {
+    return letters;
+  }
+
+  int offset(int word) {
+    return offsets[word];
+  }
+
+  /**
+   * Accumulates words into the shared letter array, growing it as needed.
+   */
+  private static final class Builder {
+    private byte[] letters = new byte[1 << 16];
+    private int[] offsets = new int[1 << 12];
+    private int size = 0;
+    private int used = 0;
+
+    void add(String line) {
+      String word = line.trim();
+      if (word.isEmpty()) {
+        return;
+      }
+      for (int i = 0; i < word.length(); i++) {
+        if (letterCode(word.charAt(i)) < 0) {
+          return;
+        }
+      }
+      if (used + word.length() > letters.length) {
+        letters = Arrays.copyOf(letters, Math.max(letters.length * 2, used + word.length()));
+      }
+      if (size + 2 > offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      for (int i = 0; i < word.length(); i++) {
+        letters[used++] = (byte) letterCode(word.charAt(i));
+      }
+      size++;
+      offsets[size] = used;
+    }
+
+    WordList build() {
+      return new WordList(Arrays.copyOf(letters, used), Arrays.copyOf(offsets, size + 1), size);
+    }
+  }
+}
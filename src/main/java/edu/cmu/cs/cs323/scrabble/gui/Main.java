@@ -1,5 +1,7 @@
 package edu.cmu.cs.cs323.scrabble.gui;
 
+import edu.cmu.cs.cs323.scrabble.core.bot.ComputerPlayer;
+import edu.cmu.cs.cs323.scrabble.core.bot.Strength;
 import edu.cmu.cs.cs323.scrabble.core.game.Player;
 import edu.cmu.cs.cs323.scrabble.core.game.SWSGame;
 import edu.cmu.cs.cs323.scrabble.gui.util.Dialogs;
@@ -8,6 +10,7 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Runnable Scrabble With Stuff GUI.
@@ -24,6 +27,13 @@ public class Main {
   private static final String PLAYER_NAME_DEFAULT_FMT = "Player %d";
   private static final String PLAYER_NAME_ASK = "Please enter your name.";
 
+  /* Computer players */
+  private static final String NUM_COMPUTERS_ASK = "How many of them are computer players?";
+  private static final String STRENGTH_ASK = "How well should the computer players play?";
+  private static final String COMPUTER_NAME_FMT = "Computer %d";
+  private static final Strength STRENGTH_DEFAULT = Strength.MEDIUM;
+  private static final long COMPUTER_MOVE_MILLIS = 2000;
+
 
   /**
    * Runs Scrabble With Stuff game with a GUI.
@@ -35,13 +45,26 @@ public class Main {
       /* First ask the number of players in the game */
       int numPlayers = askNumberOfPlayers();
 
-      /* For each player, ask the participants to enter a name. */
+      /* Then how many of them the computer plays, leaving at least one person to play. */
+      int numComputers = askNumberOfComputers(numPlayers);
+      Strength strength = numComputers > 0 ? askStrength() : STRENGTH_DEFAULT;
+
+      /* For each person, ask the participants to enter a name. */
       List<Player> playerList = new ArrayList<>();
-      for (int i = 0; i < numPlayers; i++) {
+      List<Player> humanList = new ArrayList<>();
+      for (int i = 0; i < numPlayers - numComputers; i++) {
         /* Most people are more comfortable with "Player 1" than "Player 0" so we say the player
          * number is its index + 1. */
         String playerName = askPlayerName(i + 1);
-        playerList.add(new Player(playerName));
+        Player player = new Player(playerName);
+        playerList.add(player);
+        humanList.add(player);
+      }
+      List<Player> computerList = new ArrayList<>();
+      for (int i = 0; i < numComputers; i++) {
+        Player computer = new Player(String.format(COMPUTER_NAME_FMT, i + 1));
+        playerList.add(computer);
+        computerList.add(computer);
       }
 
       /* Offsets between player windows to make it more obvious when it changes between them. */
@@ -50,7 +73,13 @@ public class Main {
       int yOffset = 0;
       int yDelta = 0;
       SWSGame game = new SWSGame(playerList);
-      for (Player player : playerList) {
+      /* Computer players have no window, and play their turns on the event thread like everyone
+       * else; only their simulations, which take most of the move time, run in the background. */
+      for (Player computer : computerList) {
+        new ComputerPlayer(game, computer, strength, COMPUTER_MOVE_MILLIS, TimeUnit.MILLISECONDS,
+                SwingUtilities::invokeLater);
+      }
+      for (Player player : humanList) {
         PlayerFrame playerFrame = new PlayerFrame(game, player, playerList);
         playerFrame.setLocation(xOffset, yOffset);
         playerFrame.setVisible(true);
@@ -71,6 +100,25 @@ public class Main {
     return NUM_PLAYERS_DEFAULT;
   }
 
+  /** Ask how many of the players the computer should play. At least one player is left to people,
+   * so askNumberOfComputers returns a value in [0, numPlayers) regardless of user input. */
+  private static int askNumberOfComputers(int numPlayers) {
+    Integer computerCount = Dialogs.askForNumber(0, numPlayers, NUM_COMPUTERS_ASK);
+    if (computerCount != null) {
+      return computerCount.intValue();
+    }
+    return 0;
+  }
+
+  private static Strength askStrength() {
+    Strength strength = (Strength) JOptionPane.showInputDialog(null, STRENGTH_ASK, null,
+            JOptionPane.PLAIN_MESSAGE, null, Strength.values(), STRENGTH_DEFAULT);
+    if (strength != null) {
+      return strength;
+    }
+    return STRENGTH_DEFAULT;
+  }
+
   private static String askPlayerName(int playerNumber) {
     String defaultName = String.format(PLAYER_NAME_DEFAULT_FMT, playerNumber);
     String titleString = String.format("%s:\n    %s", defaultName, PLAYER_NAME_ASK);
@@ -41,7 +41,7 @@ public class BoardPanel extends JPanel {
     board.setLayout(new GridLayout(nrows, ncols));
     for (int r = 0; r < nrows; r++) {
       for (int c = 0; c < ncols; c++) {
-        Position position = new Position(r,c);
+        Position position = Position.of(r, c);
         SquarePanel squarePanel = new SquarePanel();
         squares.put(position, squarePanel);
         board.add(squarePanel);
@@ -0,0 +1,79 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.ImmutableSquare;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BoardSnapshotTest {
+  @Test
+  public void testOldSnapshotIsUnchangedByLaterMoves() {
+    Board board = DefaultBoard.create();
+    LetterTile first = new LetterTile(Letter.C);
+    board.placeLetterTile(Position.of(7, 7), first);
+    BoardSnapshot before = board.snapshot();
+    long hashBefore = before.zobristHash();
+
+    board.placeLetterTile(Position.of(7, 8), new LetterTile(Letter.A));
+    board.pickupLetterTile(Position.of(7, 7));
+    board.placeSpecialTile(Position.of(0, 0),
+            DefaultSpecialTileFactories.SKIP_TURN.create(new Player("Owner")));
+
+    assertSame(first, before.square(7, 7).getLetterTile());
+    assertNull(before.square(7, 8).getLetterTile());
+    assertFalse(before.square(0, 0).hasSpecialTiles());
+    assertEquals(hashBefore, before.zobristHash());
+    assertNull(board.snapshot().square(7, 7).getLetterTile());
+  }
+
+  @Test
+  public void testSnapshotMatchesViewOfSquare() {
+    assertMatchesViews(DefaultBoard.create());
+    assertMatchesViews(Board.sparse(300, 200, DefaultBoard.layout()));
+  }
+
+  /* Plays random tiles, and after each change compares every square of the snapshot. */
+  private static void assertMatchesViews(Board board) {
+    Random random = new Random(11);
+    Player owner = new Player("Owner");
+    for (int i = 0; i < 40; i++) {
+      Position position = Position.of(random.nextInt(15), random.nextInt(15));
+      if (board.isOccupied(position.row, position.col)) {
+        board.pickupLetterTile(position);
+      } else if (i % 5 == 0 && !board.viewOfSquare(position).hasSpecialTiles()) {
+        board.placeSpecialTile(position, DefaultSpecialTileFactories.BOOM.create(owner));
+      } else if (!board.viewOfSquare(position).hasSpecialTiles()) {
+        board.placeLetterTile(position, new LetterTile(Letter.values()[random.nextInt(26)]));
+      }
+
+      BoardSnapshot snapshot = board.snapshot();
+      assertEquals(board.width(), snapshot.width());
+      assertEquals(board.height(), snapshot.height());
+      assertEquals(board.zobristHash(), snapshot.zobristHash());
+      for (int r = 0; r < 15; r++) {
+        for (int c = 0; c < 15; c++) {
+          assertSameSquare(board.viewOfSquare(Position.of(r, c)), snapshot.square(r, c));
+          assertSame(board.getLetterTile(Position.of(r, c)), snapshot.square(r, c).getLetterTile());
+        }
+      }
+    }
+  }
+
+  private static void assertSameSquare(ImmutableSquare expected, ImmutableSquare actual) {
+    assertEquals(expected.wordMultiplier(), actual.wordMultiplier());
+    assertEquals(expected.letterMultiplier(), actual.letterMultiplier());
+    assertSame(expected.getLetterTile(), actual.getLetterTile());
+    assertEquals(expected.getSpecialTiles().size(), actual.getSpecialTiles().size());
+    for (SpecialTile specialTile : expected.getSpecialTiles()) {
+      assertTrue(actual.getSpecialTiles().contains(specialTile));
+    }
+  }
+}
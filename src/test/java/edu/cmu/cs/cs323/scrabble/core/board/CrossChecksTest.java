@@ -0,0 +1,69 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordGraph;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CrossChecksTest {
+  /* Common letters, so that many cross words are real words and masks are not all empty. */
+  private static final String LETTERS = "AAEEIOUSTRNLDCM";
+
+  private final Dawg dawg = Dawg.defaultDawg();
+
+  @Test
+  public void testIncrementalUpdatesMatchAFullRecompute() {
+    Random random = new Random(13);
+    Board board = DefaultBoard.create();
+    board.enableCrossChecks(dawg);
+    for (int step = 0; step < 400; step++) {
+      Position position = Position.of(random.nextInt(board.height()), random.nextInt(board.width()));
+      if (board.isOccupied(position.row, position.col)) {
+        board.pickupLetterTile(position);
+      } else {
+        board.placeLetterTile(position, new LetterTile(
+                Letter.valueOf(String.valueOf(LETTERS.charAt(random.nextInt(LETTERS.length()))))));
+      }
+      assertMatchesFullRecompute(board);
+    }
+  }
+
+  @Test
+  public void testCrossWordsDecideTheAllowedLetters() {
+    Board board = DefaultBoard.create();
+    board.enableCrossChecks(dawg);
+    board.placeLetterTile(Position.of(7, 7), new LetterTile(Letter.A));
+    assertEquals(CrossChecks.ALL_LETTERS, board.crossCheck(0, 0, true));
+    /* A tile below the A in an across move forms a two-letter down word starting with A. */
+    int expected = 0;
+    for (Letter letter : Letter.values()) {
+      int node = dawg.nodeFor("A" + letter);
+      if (node != WordGraph.NONE && dawg.isTerminal(node)) {
+        expected |= 1 << letter.ordinal();
+      }
+    }
+    assertNotEquals(0, expected);
+    assertEquals(expected, board.crossCheck(8, 7, true));
+    /* In a down move the tile only extends the down word, so nothing across limits it. */
+    assertEquals(CrossChecks.ALL_LETTERS, board.crossCheck(8, 7, false));
+  }
+
+  private void assertMatchesFullRecompute(Board board) {
+    CrossChecks expected = new CrossChecks(dawg, board.width(), board.height());
+    expected.recomputeAll(board);
+    for (int r = 0; r < board.height(); r++) {
+      for (int c = 0; c < board.width(); c++) {
+        if (!board.isOccupied(r, c)) {
+          assertEquals(expected.allowed(r, c, true), board.crossCheck(r, c, true));
+          assertEquals(expected.allowed(r, c, false), board.crossCheck(r, c, false));
+        }
+      }
+    }
+  }
+}
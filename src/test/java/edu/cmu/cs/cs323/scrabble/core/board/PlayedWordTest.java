@@ -0,0 +1,76 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PlayedWordTest {
+  /* Twelve letters, the longest packed word, and one letter longer. */
+  private static final String LONGEST_PACKED = "ABCDEFGHIJKZ";
+  private static final String SHORTEST_UNPACKED = "ABCDEFGHIJKZY";
+
+  @Test
+  public void testPacksUpToTheMaximumLength() {
+    assertEquals(PlayedWord.MAX_PACKED_LENGTH, LONGEST_PACKED.length());
+    PlayedWord packed = word(LONGEST_PACKED, 0);
+    PlayedWord unpacked = word(SHORTEST_UNPACKED, 0);
+    assertTrue(packed.isPacked());
+    assertFalse(unpacked.isPacked());
+    assertThrows(IllegalArgumentException.class, unpacked::packedLetters);
+  }
+
+  @Test
+  public void testBothFormsKeepTheirLetters() {
+    for (String text : new String[] {"", "A", LONGEST_PACKED, SHORTEST_UNPACKED,
+        "ZZZZZZZZZZZZZZZZZZZZ"}) {
+      PlayedWord word = word(text, 0);
+      assertEquals(text.length(), word.length());
+      assertEquals(text, word.toString());
+      assertTrue(word.spells(text.toLowerCase()));
+      for (int i = 0; i < text.length(); i++) {
+        assertEquals(Letter.valueOf(text.substring(i, i + 1)), word.letterAt(i));
+      }
+      assertEquals(PlayedWord.fingerprint(text), word.fingerprint());
+    }
+  }
+
+  @Test
+  public void testEqualsAndHashCodeAgreeInBothForms() {
+    for (String text : new String[] {LONGEST_PACKED, SHORTEST_UNPACKED}) {
+      /* The same letters from a list and from the middle of an array of codes, with other scores. */
+      PlayedWord fromLetters = word(text, 1);
+      int[] codes = new int[text.length() + 2];
+      for (int i = 0; i < text.length(); i++) {
+        codes[i + 1] = text.charAt(i) - 'A';
+      }
+      PlayedWord fromCodes = new PlayedWord(codes, 1, text.length(), 7);
+      assertEquals(fromLetters, fromCodes);
+      assertEquals(fromLetters.hashCode(), fromCodes.hashCode());
+      assertEquals(fromLetters.fingerprint(), fromCodes.fingerprint());
+    }
+  }
+
+  @Test
+  public void testWordsDifferingAcrossTheBoundaryAreNotEqual() {
+    PlayedWord packed = word(LONGEST_PACKED, 0);
+    PlayedWord unpacked = word(SHORTEST_UNPACKED, 0);
+    assertNotEquals(packed, unpacked);
+    assertNotEquals(unpacked, packed);
+    /* A trailing A has code 0, so it must not vanish into the unused bits of a packed word. */
+    assertNotEquals(word("AB", 0), word("ABA", 0));
+    assertNotEquals(word(SHORTEST_UNPACKED, 0), word("ABCDEFGHIJKZZ", 0));
+  }
+
+  private static PlayedWord word(String text, int score) {
+    List<Letter> letters = new ArrayList<>();
+    for (char letter : text.toCharArray()) {
+      letters.add(Letter.valueOf(String.valueOf(letter)));
+    }
+    return new PlayedWord(letters, score);
+  }
+}
@@ -0,0 +1,70 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.square.Square;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SparseSquareStoreTest {
+  @Test
+  public void testBlankBoardsAboveTheThresholdAreSparse() {
+    /* A sparse board hands out the shared view for a square with nothing on it. */
+    Square empty = Board.EmptySquareViews.of(1, 1);
+    assertNotSame(empty, Board.blank(128, 128).squareAt(5, 5));
+    assertSame(empty, Board.blank(129, 128).squareAt(5, 5));
+    assertSame(empty, Board.blank(1000, 1000).squareAt(999, 999));
+  }
+
+  @Test
+  public void testLargeBlankBoardPlaysLikeASmallOne() {
+    Board board = Board.blank(1000, 1000);
+    board.placeLetterTile(Position.of(999, 998), new LetterTile(Letter.A));
+    board.placeLetterTile(Position.of(999, 999), new LetterTile(Letter.T));
+    assertEquals("AT", board.horizontalWordIncluding(Position.of(999, 999)).toString());
+    assertEquals(1, board.viewOfSquare(Position.of(999, 999)).wordMultiplier());
+  }
+
+  @Test
+  public void testReleaseDropsOnlyEmptySquares() {
+    SparseSquareStore store = new SparseSquareStore(10, MultiplierLayout.uniform());
+    store.writable(3).placeLetterTile(new LetterTile(Letter.A));
+    store.writable(7).placeSpecialTile(
+            DefaultSpecialTileFactories.BOOM.create(new Player("Owner")));
+    store.release(3);
+    store.release(7);
+    assertEquals(2, stored(store).size());
+
+    store.writable(3).removeLetterTile();
+    store.release(3);
+    assertEquals(1, stored(store).size());
+    assertEquals(7, (int) stored(store).get(0));
+    assertSame(Board.EmptySquareViews.of(1, 1), store.get(3));
+  }
+
+  @Test
+  public void testPickupReleasesTheSquare() {
+    Board board = Board.sparse(500, 500, DefaultBoard.layout());
+    Position position = Position.of(0, 0);
+    Square empty = board.squareAt(0, 0);
+    assertSame(Board.EmptySquareViews.of(empty.wordMultiplier(), empty.letterMultiplier()), empty);
+    board.placeLetterTile(position, new LetterTile(Letter.Z));
+    assertNotSame(empty, board.squareAt(0, 0));
+    board.pickupLetterTile(position);
+    assertSame(empty, board.squareAt(0, 0));
+    assertNull(board.getLetterTile(position));
+  }
+
+  private static List<Integer> stored(SparseSquareStore store) {
+    List<Integer> indices = new ArrayList<>();
+    store.forEachStored(indices::add);
+    return indices;
+  }
+}
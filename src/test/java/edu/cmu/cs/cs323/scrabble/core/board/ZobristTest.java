@@ -0,0 +1,88 @@
+package edu.cmu.cs.cs323.scrabble.core.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ZobristTest {
+  @Test
+  public void testHashDoesNotDependOnMoveOrder() {
+    List<Position> positions = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      positions.add(Position.of(i, 14 - i));
+    }
+    Board inOrder = DefaultBoard.create();
+    for (Position position : positions) {
+      inOrder.placeLetterTile(position, tile(position));
+    }
+    Board shuffled = DefaultBoard.create();
+    Collections.shuffle(positions, new Random(5));
+    for (Position position : positions) {
+      shuffled.placeLetterTile(position, tile(position));
+    }
+    assertEquals(inOrder.zobristHash(), shuffled.zobristHash());
+    assertEquals(inOrder.zobristHash(), inOrder.snapshot().zobristHash());
+  }
+
+  @Test
+  public void testPlaceThenPickupRestoresTheHash() {
+    Board board = DefaultBoard.create();
+    board.placeLetterTile(Position.of(7, 7), new LetterTile(Letter.Q));
+    long before = board.zobristHash();
+
+    board.placeLetterTile(Position.of(7, 8), new LetterTile(Letter.I));
+    assertNotEquals(before, board.zobristHash());
+    board.pickupLetterTile(Position.of(7, 8));
+    assertEquals(before, board.zobristHash());
+
+    SpecialTile specialTile = DefaultSpecialTileFactories.BOOM.create(new Player("Owner"));
+    board.placeSpecialTile(Position.of(0, 0), specialTile);
+    assertNotEquals(before, board.zobristHash());
+    board.pickupSpecialTiles(Position.of(0, 0));
+    assertEquals(before, board.zobristHash());
+  }
+
+  @Test
+  public void testDifferentPositionsHashDifferently() {
+    Board first = DefaultBoard.create();
+    first.placeLetterTile(Position.of(7, 7), new LetterTile(Letter.A));
+    first.placeLetterTile(Position.of(7, 8), new LetterTile(Letter.T));
+    Board swapped = DefaultBoard.create();
+    swapped.placeLetterTile(Position.of(7, 7), new LetterTile(Letter.T));
+    swapped.placeLetterTile(Position.of(7, 8), new LetterTile(Letter.A));
+    assertNotEquals(first.zobristHash(), swapped.zobristHash());
+  }
+
+  @Test
+  public void testRackHashIgnoresTileOrderButCountsCopies() {
+    Board board = DefaultBoard.create();
+    List<LetterTile> rack = rack(Letter.A, Letter.B, Letter.A);
+    assertEquals(board.zobristHash(rack), board.zobristHash(rack(Letter.B, Letter.A, Letter.A)));
+    assertNotEquals(board.zobristHash(rack), board.zobristHash(rack(Letter.A, Letter.B)));
+    assertNotEquals(board.zobristHash(rack), board.zobristHash());
+  }
+
+  /* A letter that depends on the square, so that both boards agree on what goes where. */
+  private static LetterTile tile(Position position) {
+    return new LetterTile(Letter.values()[(position.row * 7 + position.col) % 26]);
+  }
+
+  private static List<LetterTile> rack(Letter... letters) {
+    List<LetterTile> tiles = new ArrayList<>();
+    for (Letter letter : letters) {
+      tiles.add(new LetterTile(letter));
+    }
+    return tiles;
+  }
+}
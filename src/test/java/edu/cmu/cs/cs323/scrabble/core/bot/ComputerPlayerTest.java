@@ -0,0 +1,244 @@
+package edu.cmu.cs.cs323.scrabble.core.bot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGame;
+import edu.cmu.cs.cs323.scrabble.core.game.SWSGameListener;
+import edu.cmu.cs.cs323.scrabble.core.game.Turn;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
+import edu.cmu.cs.cs323.scrabble.core.validation.DummyValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ComputerPlayerTest {
+  private static final long BUDGET_MILLIS = 100;
+  /* Allowance on top of the budget for placing the move, drawing and waiting for the queue. */
+  private static final long SLACK_MILLIS = 2000;
+  private static final int MAX_TURNS = 1000;
+
+  @Test
+  public void testTwoComputerPlayersPlayAGameToTheEnd() throws InterruptedException {
+    Player first = new Player("First");
+    Player second = new Player("Second");
+    SWSGame game = new SWSGame(Arrays.asList(first, second));
+    /* Every turn, and every move handed back by a simulation, is run here on the test's thread, as
+     * a single-threaded executor that owns a game would. */
+    BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    ComputerPlayer expert = new ComputerPlayer(game, first, Strength.EXPERT, BUDGET_MILLIS,
+            TimeUnit.MILLISECONDS, tasks::add);
+    new ComputerPlayer(game, second, Strength.EASY, BUDGET_MILLIS, TimeUnit.MILLISECONDS,
+            tasks::add);
+    Referee referee = new Referee(game, first, second);
+    game.addSWSGameListener(referee);
+
+    game.setupGame();
+    while (!referee.ended) {
+      Runnable task = tasks.poll(SLACK_MILLIS + BUDGET_MILLIS, TimeUnit.MILLISECONDS);
+      assertNotNull(task, "The game stalled before it ended.");
+      task.run();
+      assertTrue(referee.turns.size() < MAX_TURNS, "The game did not end.");
+    }
+    /* Nothing is left to do once the game is over, and anything scheduled must do nothing. */
+    Runnable late;
+    while ((late = tasks.poll(BUDGET_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+      late.run();
+    }
+
+    assertEquals(0, referee.eventsAfterEnd);
+    assertTrue(referee.turns.size() > 2);
+    for (int i = 0; i < referee.turns.size(); i++) {
+      /* Neither computer player buys a tile that skips or reverses turns, so they alternate. */
+      assertSame(i % 2 == 0 ? first : second, referee.turns.get(i).player());
+    }
+    assertTrue(expert.simulationsPerSecond() > 0);
+    assertTrue(referee.longestTurnNanos
+            < TimeUnit.MILLISECONDS.toNanos(BUDGET_MILLIS + SLACK_MILLIS));
+  }
+
+  @Test
+  public void testComputerPlayerSwapsWhenItHasNoMove() {
+    Player opponent = new Player("Opponent");
+    Player bot = new Player("Bot");
+    SWSGame game = new SWSGame(Arrays.asList(opponent, bot));
+    game.setupGame();
+    setRack(bot, "QQQQQQQ");
+    List<LetterTile> rack = new ArrayList<>(bot.letterTiles());
+    new ComputerPlayer(game, bot, Strength.EASY, 1, TimeUnit.SECONDS, Runnable::run);
+
+    game.endTurn(opponent);
+
+    assertSame(opponent, game.currentPlayer());
+    assertEquals(SWSGame.PLAYER_TILE_LIMIT, bot.letterTiles().size());
+    for (LetterTile tile : bot.letterTiles()) {
+      for (LetterTile old : rack) {
+        assertNotSame(old, tile);
+      }
+    }
+    assertNull(game.lastMove());
+  }
+
+  @Test
+  public void testOpponentsHiddenSpecialTilesDoNotChangeThePlacement() {
+    Player bot = new Player("Bot");
+    Player opponent = new Player("Opponent");
+    SWSGame game = new SWSGame(Arrays.asList(bot, opponent));
+    game.setupGame();
+    setRack(bot, "AT");
+    Map<Position, LetterTile> placements = new HashMap<>();
+    placements.put(Position.of(7, 7), bot.letterTiles().get(0));
+    placements.put(Position.of(7, 8), bot.letterTiles().get(1));
+    game.placeMove(bot, new Move(placements));
+    game.endTurn(bot);
+
+    /* The opponent hides a trap on every square next to the word, which are the only squares the
+     * computer player considers. */
+    List<Position> anchors = Arrays.asList(Position.of(6, 7), Position.of(6, 8),
+            Position.of(8, 7), Position.of(8, 8), Position.of(7, 6), Position.of(7, 9));
+    for (Position anchor : anchors) {
+      SpecialTile trap = DefaultSpecialTileFactories.SKIP_TURN.create(opponent);
+      opponent.specialTiles().add(trap);
+      game.placeSpecialTile(opponent, anchor, trap);
+      if (anchor != anchors.get(anchors.size() - 1)) {
+        game.endTurn(opponent);
+        game.endTurn(bot);
+      }
+    }
+
+    /* With an empty rack the computer player has no move and nothing to swap, so all it does is
+     * place its special tile. */
+    bot.letterTiles().clear();
+    SpecialTile own = DefaultSpecialTileFactories.STEAL_SCORE.create(bot);
+    bot.specialTiles().add(own);
+    new ComputerPlayer(game, bot, Strength.HARD, 1, TimeUnit.SECONDS, Runnable::run);
+    game.endTurn(opponent);
+
+    assertTrue(bot.specialTiles().isEmpty());
+    int placed = 0;
+    for (Position anchor : anchors) {
+      if (game.viewOfSquare(bot, anchor).getSpecialTiles().contains(own)) {
+        placed++;
+      }
+    }
+    assertEquals(1, placed);
+    assertSame(opponent, game.currentPlayer());
+  }
+
+  @Test
+  public void testSimulatingNeedsTheGamesLexicon() {
+    Player bot = new Player("Bot");
+    SWSGame game = new SWSGame(Arrays.asList(bot, new Player("Opponent")), new DummyValidator());
+    assertThrows(IllegalArgumentException.class, () ->
+            new ComputerPlayer(game, bot, Strength.EXPERT, 1, TimeUnit.SECONDS, Runnable::run));
+    ComputerPlayer easy =
+            new ComputerPlayer(game, bot, Strength.EASY, 1, TimeUnit.SECONDS, Runnable::run);
+    assertEquals(0.0, easy.simulationsPerSecond());
+  }
+
+  /* Checks each turn as it ends, and counts anything that happens after the game is over. */
+  private static final class Referee implements SWSGameListener {
+    private final SWSGame game;
+    private final Player first;
+    private final Player second;
+    private final List<Turn> turns = new ArrayList<>();
+    private Turn current = null;
+    private long turnStart;
+    private long longestTurnNanos = 0;
+    private List<LetterTile> opponentRack;
+    private Move move = null;
+    private int placed = 0;
+    private boolean ended = false;
+    private int eventsAfterEnd = 0;
+
+    Referee(SWSGame game, Player first, Player second) {
+      this.game = game;
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    public void squareChanged(Position position) {
+      if (ended) {
+        eventsAfterEnd++;
+      } else if (game.viewOfSquare(current.player(), position).hasLetterTile()) {
+        placed++;
+      }
+    }
+
+    @Override
+    public void playerChanged(Player player) {
+      if (ended) {
+        eventsAfterEnd++;
+      }
+    }
+
+    @Override
+    public void turnChanged(Turn turn) {
+      if (ended) {
+        eventsAfterEnd++;
+        return;
+      }
+      if (turn != current) {
+        if (current != null) {
+          endOfTurn();
+        }
+        current = turn;
+        turns.add(turn);
+        turnStart = System.nanoTime();
+        opponentRack = new ArrayList<>(opponent().letterTiles());
+        move = null;
+        placed = 0;
+      }
+      assertSame(game.currentPlayer(), turn.player());
+      if (turn.getPlayedMove() != null) {
+        /* A turn plays at most one move. */
+        assertTrue(move == null || move == turn.getPlayedMove());
+        move = turn.getPlayedMove();
+      }
+    }
+
+    @Override
+    public void gameEnded(Player winner) {
+      endOfTurn();
+      ended = true;
+    }
+
+    @Override
+    public void errorOccurred(Player target, String message) {
+    }
+
+    /* Checks the turn that has just ended was played once, by its own player. */
+    private void endOfTurn() {
+      longestTurnNanos = Math.max(longestTurnNanos, System.nanoTime() - turnStart);
+      assertFalse(current.canTakeEndAction(current.player()));
+      assertEquals(move == null ? 0 : move.placements().size(), placed);
+      assertEquals(opponentRack, opponent().letterTiles());
+    }
+
+    private Player opponent() {
+      return current.player() == first ? second : first;
+    }
+  }
+
+  /* Replaces the player's rack with tiles for the given letters. */
+  private static void setRack(Player player, String letters) {
+    player.letterTiles().clear();
+    for (char letter : letters.toCharArray()) {
+      player.letterTiles().add(new LetterTile(Letter.valueOf(String.valueOf(letter))));
+    }
+  }
+}
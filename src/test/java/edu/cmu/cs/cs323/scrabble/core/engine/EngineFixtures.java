@@ -0,0 +1,40 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dictionary and racks shared by the engine tests.
+ */
+final class EngineFixtures {
+  private static final Dawg SMALL_DAWG =
+          Dawg.build(WordList.of(Arrays.asList("at", "cat", "cats", "scat", "ta")));
+
+  private EngineFixtures() {
+  }
+
+  /**
+   * @return A DAWG of a few words made of the letters of CATS, small enough to count moves by hand.
+   */
+  static Dawg smallDawg() {
+    return SMALL_DAWG;
+  }
+
+  /**
+   * @param letters Letters of the tiles, in upper case.
+   * @return New letter tiles, one per letter, in order.
+   */
+  static List<LetterTile> rack(String letters) {
+    List<LetterTile> tiles = new ArrayList<>();
+    for (char letter : letters.toCharArray()) {
+      tiles.add(new LetterTile(Letter.valueOf(String.valueOf(letter))));
+    }
+    return tiles;
+  }
+}
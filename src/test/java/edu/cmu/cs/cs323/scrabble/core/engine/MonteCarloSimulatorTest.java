@@ -0,0 +1,66 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.rack;
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.smallDawg;
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+public class MonteCarloSimulatorTest {
+  private static final List<LetterTile> UNSEEN = rack("AACEEIINNOORSSTTU");
+  private final Dawg dawg = smallDawg();
+
+  @Test
+  public void testWithoutPliesOutcomeIsTheMoveScore() {
+    Board board = DefaultBoard.create();
+    List<LetterTile> rack = rack("CAT");
+    SearchResult candidates = new MoveSearch(dawg).search(board, rack, 4);
+    MonteCarloSimulator simulator = new MonteCarloSimulator(dawg, 0);
+    double[] outcomes = simulator.evaluate(board.snapshot(), rack, UNSEEN, candidates.moves(), 3,
+            Long.MAX_VALUE);
+    for (int i = 0; i < candidates.size(); i++) {
+      assertEquals(candidates.value(i), outcomes[i]);
+    }
+    assertEquals(3 * candidates.size(), simulator.simulationCount());
+    assertTrue(simulator.simulationsPerSecond() > 0);
+  }
+
+  @Test
+  public void testSeededSimulationsRepeat() {
+    Board board = DefaultBoard.create();
+    List<LetterTile> rack = rack("CATS");
+    List<Move> candidates = new MoveSearch(dawg).search(board, rack, 4).moves();
+    ForkJoinPool pool = new ForkJoinPool(2);
+    double[] first = new MonteCarloSimulator(dawg, 2, pool, new SplittableRandom(7))
+            .evaluate(board.snapshot(), rack, UNSEEN, candidates, 20, Long.MAX_VALUE);
+    double[] second = new MonteCarloSimulator(dawg, 2, pool, new SplittableRandom(7))
+            .evaluate(board.snapshot(), rack, UNSEEN, candidates, 20, Long.MAX_VALUE);
+    pool.shutdown();
+    assertArrayEquals(first, second);
+  }
+
+  @Test
+  public void testOutcomesAreUnknownWhenTheBudgetRunsOut() {
+    Board board = DefaultBoard.create();
+    List<LetterTile> rack = rack("CATS");
+    List<Move> candidates = new MoveSearch(dawg).search(board, rack, 4).moves();
+    MonteCarloSimulator simulator = new MonteCarloSimulator(dawg, 2);
+    double[] outcomes = simulator.evaluate(board.snapshot(), rack, UNSEEN, candidates, 20, 0);
+    assertEquals(candidates.size(), outcomes.length);
+    for (double outcome : outcomes) {
+      assertTrue(Double.isNaN(outcome));
+    }
+    assertEquals(0, simulator.simulationCount());
+  }
+}
@@ -0,0 +1,183 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.rack;
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.smallDawg;
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.game.Move;
+import edu.cmu.cs.cs323.scrabble.core.game.Player;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class MoveGeneratorTest {
+  /* Letters drawn for random racks, roughly in proportion to the tile bag. */
+  private static final String TILE_LETTERS = "EEEEAAAIIIOOUNNRRTTLSSDGBCMPFHVWYKJXQZ";
+
+  private final Dawg dawg = smallDawg();
+  private final MoveGenerator generator = new MoveGenerator(dawg);
+
+  @Test
+  public void testFirstMoveCoversCenter() {
+    MoveList moves = generator.generate(DefaultBoard.create(), rack("CAT"));
+    /* CAT in three places and AT and TA in two each, across and down. */
+    assertEquals(14, moves.size());
+    for (int i = 0; i < moves.size(); i++) {
+      boolean coversCenter = false;
+      for (int t = 0; t < moves.tileCount(i); t++) {
+        coversCenter |= moves.row(i, t) == 7 && moves.col(i, t) == 7;
+      }
+      assertTrue(coversCenter);
+      assertTrue(moves.tileCount(i) >= 2);
+    }
+  }
+
+  @Test
+  public void testMovesAreValidAndScoredLikeTheGame() {
+    Board board = DefaultBoard.create();
+    Player player = new Player("Player");
+    player.letterTiles().addAll(rack("CAT"));
+    Move first = generator.generate(board, player.letterTiles()).toMove(0, player.letterTiles());
+    first.placements().forEach(board::placeLetterTile);
+
+    player.letterTiles().clear();
+    player.letterTiles().addAll(rack("SCAT"));
+    MoveList moves = generator.generate(board, player.letterTiles());
+    assertFalse(moves.isEmpty());
+    for (int i = 0; i < moves.size(); i++) {
+      Move move = moves.toMove(i, player.letterTiles());
+      assertTrue(board.isValidMove(player, move, false));
+      for (Map.Entry<Position, LetterTile> placement : move.placements().entrySet()) {
+        board.placeLetterTile(placement.getKey(), placement.getValue());
+      }
+      assertEquals(move.totalScore(board), moves.score(i));
+      move.placements().keySet().forEach(board::pickupLetterTile);
+    }
+  }
+
+  @Test
+  public void testFindsExactlyTheMovesOfABruteForceSearch() {
+    Dawg words = Dawg.defaultDawg();
+    MoveGenerator wordsGenerator = new MoveGenerator(words);
+    Random random = new Random(1);
+    Board board = DefaultBoard.create();
+    for (int turn = 0; turn < 8; turn++) {
+      List<LetterTile> rack = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        rack.add(new LetterTile(Letter.valueOf(String.valueOf(
+                TILE_LETTERS.charAt(random.nextInt(TILE_LETTERS.length()))))));
+      }
+      MoveList moves = wordsGenerator.generate(board, rack);
+      Set<String> generated = new HashSet<>();
+      for (int i = 0; i < moves.size(); i++) {
+        /* Every move is reported once, including single tiles that form words both ways. */
+        assertTrue(generated.add(describe(moves.toMove(i, rack), moves.score(i))));
+      }
+      assertEquals(bruteForce(words, board, rack), generated);
+
+      if (moves.isEmpty()) {
+        break;
+      }
+      moves.toMove(random.nextInt(moves.size()), rack).placements().forEach(board::placeLetterTile);
+    }
+  }
+
+  /*
+   * Tries every ordering of every subset of the rack on every run of empty squares that starts and
+   * ends with a placed tile, and keeps the placements the board accepts whose words are all in the
+   * dictionary. Returns them described as by describe().
+   */
+  private static Set<String> bruteForce(Dawg words, Board board, List<LetterTile> rack) {
+    Set<String> found = new HashSet<>();
+    Player player = new Player("Player");
+    player.letterTiles().addAll(rack);
+    for (int direction = 0; direction < 2; direction++) {
+      boolean across = direction == 0;
+      int lines = across ? board.height() : board.width();
+      int length = across ? board.width() : board.height();
+      for (int line = 0; line < lines; line++) {
+        for (int from = 0; from < length; from++) {
+          for (int to = from; to < length; to++) {
+            List<Position> empty = new ArrayList<>();
+            for (int i = from; i <= to; i++) {
+              Position position = across ? Position.of(line, i) : Position.of(i, line);
+              if (!board.isOccupied(position.row, position.col)) {
+                empty.add(position);
+              }
+            }
+            Position first = across ? Position.of(line, from) : Position.of(from, line);
+            Position last = across ? Position.of(line, to) : Position.of(to, line);
+            if (!empty.isEmpty() && empty.size() <= rack.size()
+                    && empty.get(0).equals(first) && empty.get(empty.size() - 1).equals(last)) {
+              tryOrderings(words, board, player, empty, new LetterTile[empty.size()],
+                      new boolean[rack.size()], 0, found);
+            }
+          }
+        }
+      }
+    }
+    return found;
+  }
+
+  private static void tryOrderings(Dawg words, Board board, Player player, List<Position> positions,
+                                   LetterTile[] chosen, boolean[] used, int next, Set<String> found) {
+    List<LetterTile> rack = player.letterTiles();
+    if (next == positions.size()) {
+      Map<Position, LetterTile> placements = new HashMap<>();
+      for (int i = 0; i < positions.size(); i++) {
+        placements.put(positions.get(i), chosen[i]);
+      }
+      Move move = new Move(placements);
+      boolean firstMove = board.isEmpty();
+      if (!board.isValidMove(player, move, firstMove)
+              || firstMove && !placements.containsKey(Position.of(7, 7))) {
+        return;
+      }
+      placements.forEach(board::placeLetterTile);
+      boolean allWords = true;
+      for (PlayedWord word : move.words(board)) {
+        allWords &= words.contains(word);
+      }
+      int score = move.totalScore(board);
+      placements.keySet().forEach(board::pickupLetterTile);
+      if (allWords) {
+        found.add(describe(move, score));
+      }
+      return;
+    }
+    for (int i = 0; i < rack.size(); i++) {
+      if (!used[i]) {
+        used[i] = true;
+        chosen[next] = rack.get(i);
+        tryOrderings(words, board, player, positions, chosen, used, next + 1, found);
+        used[i] = false;
+      }
+    }
+  }
+
+  /* The squares and letters of a move, in a fixed order, and its score. */
+  private static String describe(Move move, int score) {
+    List<String> tiles = new ArrayList<>();
+    for (Map.Entry<Position, LetterTile> placement : move.placements().entrySet()) {
+      tiles.add(placement.getKey().row + "," + placement.getKey().col
+              + placement.getValue().letter());
+    }
+    Collections.sort(tiles);
+    return tiles + "=" + score;
+  }
+}
@@ -0,0 +1,69 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.rack;
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.smallDawg;
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MoveSearchTest {
+  private final Dawg dawg = smallDawg();
+
+  @Test
+  public void testReturnsTheHighestScoringMovesInOrder() {
+    Board board = DefaultBoard.create();
+    List<LetterTile> rack = rack("CAT");
+    MoveList all = new MoveGenerator(dawg).generate(board, rack);
+    List<Integer> scores = new ArrayList<>();
+    for (int i = 0; i < all.size(); i++) {
+      scores.add(all.score(i));
+    }
+    scores.sort((a, b) -> b - a);
+
+    SearchResult result = new MoveSearch(dawg).search(board, rack, 5);
+    assertTrue(result.isComplete());
+    assertEquals(all.size(), result.movesConsidered());
+    assertEquals(5, result.size());
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals((double) scores.get(i), result.value(i));
+    }
+  }
+
+  @Test
+  public void testEvaluatorDecidesTheRanking() {
+    /* Fewest tiles first: only the two-letter words can be best. */
+    MoveEvaluator fewestTiles = (moves, move) -> -moves.tileCount(move);
+    SearchResult result = new MoveSearch(dawg).search(DefaultBoard.create(), rack("CAT"), 3,
+            fewestTiles, Long.MAX_VALUE);
+    assertEquals(3, result.size());
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals(2, result.move(i).placements().size());
+    }
+  }
+
+  @Test
+  public void testStopsWhenTheBudgetRunsOut() {
+    SearchResult result = new MoveSearch(dawg).search(DefaultBoard.create(), rack("CAT"), 5,
+            MoveEvaluator.score(), 0);
+    assertFalse(result.isComplete());
+    assertEquals(0, result.movesConsidered());
+    assertEquals(0, result.size());
+  }
+
+  @Test
+  public void testStopsAtAPassedDeadlineWithoutAnyLegalMove() {
+    /* No word can be made of these letters, so the search never finds a move to stop after. */
+    SearchResult result = new MoveSearch(dawg).searchUntil(DefaultBoard.create(), rack("QZ"), 5,
+            MoveEvaluator.score(), System.nanoTime() - 1);
+    assertFalse(result.isComplete());
+    assertEquals(0, result.size());
+  }
+}
@@ -0,0 +1,78 @@
+package edu.cmu.cs.cs323.scrabble.core.engine;
+
+import static edu.cmu.cs.cs323.scrabble.core.engine.EngineFixtures.rack;
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.Board;
+import edu.cmu.cs.cs323.scrabble.core.board.DefaultBoard;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Dawg;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMoveGeneratorTest {
+  private final Dawg dawg = Dawg.defaultDawg();
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  public void shutDownPool() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void testMatchesSequentialGenerationMidGame() {
+    MoveGenerator generator = new MoveGenerator(dawg);
+    Random random = new Random(3);
+    Board board = DefaultBoard.create();
+    for (int turn = 0; turn < 10; turn++) {
+      List<LetterTile> rack = rack("SATIREN");
+      MoveList moves = generator.generate(board, rack);
+      moves.toMove(random.nextInt(moves.size()), rack).placements().forEach(board::placeLetterTile);
+    }
+    assertSameMoves(board, rack("RETAINS"));
+    assertSameMoves(board, rack("QUIZ"));
+  }
+
+  @Test
+  public void testMatchesSequentialGenerationOnALargeSparseBoard() {
+    Board board = Board.sparse(1000, 1000, DefaultBoard.layout());
+    place(board, "CAT", 10, 10, true);
+    place(board, "DOG", 500, 700, false);
+    place(board, "ZONE", 999, 996, true);
+    place(board, "QUIT", 996, 0, false);
+    assertSameMoves(board, rack("SATIREN"));
+  }
+
+  /* Compares the moves of both generators one by one: order, squares, letters and scores. */
+  private void assertSameMoves(Board board, List<LetterTile> rack) {
+    MoveList expected = new MoveGenerator(dawg).generate(board, rack);
+    MoveList actual = new ParallelMoveGenerator(dawg, pool).generate(board, rack);
+    assertFalse(expected.isEmpty());
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.score(i), actual.score(i));
+      assertEquals(expected.isAcross(i), actual.isAcross(i));
+      assertEquals(expected.tileCount(i), actual.tileCount(i));
+      for (int tile = 0; tile < expected.tileCount(i); tile++) {
+        assertEquals(expected.row(i, tile), actual.row(i, tile));
+        assertEquals(expected.col(i, tile), actual.col(i, tile));
+        assertEquals(expected.letterCode(i, tile), actual.letterCode(i, tile));
+      }
+    }
+  }
+
+  private static void place(Board board, String word, int row, int col, boolean across) {
+    for (int i = 0; i < word.length(); i++) {
+      Position position = across ? Position.of(row, col + i) : Position.of(row + i, col);
+      board.placeLetterTile(position, new LetterTile(Letter.valueOf(String.valueOf(word.charAt(i)))));
+    }
+  }
+}
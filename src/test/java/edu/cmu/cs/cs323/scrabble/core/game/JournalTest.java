@@ -0,0 +1,119 @@
+package edu.cmu.cs.cs323.scrabble.core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class JournalTest {
+  private final Journal journal = new Journal();
+  private final List<Integer> values = new ArrayList<>();
+
+  @Test
+  public void testUndoAndRedoRoundTrip() {
+    add(1);
+    int mark = journal.mark();
+    add(2);
+    add(3);
+
+    journal.undo();
+    assertEquals(Arrays.asList(1, 2), values);
+    journal.undoTo(mark);
+    assertEquals(Arrays.asList(1), values);
+    journal.undoTo(0);
+    assertEquals(Arrays.asList(), values);
+    assertFalse(journal.canUndo());
+
+    journal.redo();
+    assertEquals(Arrays.asList(1), values);
+    journal.redoTo(3);
+    assertEquals(Arrays.asList(1, 2, 3), values);
+    assertFalse(journal.canRedo());
+  }
+
+  @Test
+  public void testRecordingAfterUndoDiscardsTheRedoTail() {
+    add(1);
+    add(2);
+    add(3);
+    journal.undoTo(1);
+
+    add(4);
+
+    assertFalse(journal.canRedo());
+    assertEquals(2, journal.mark());
+    assertThrows(IllegalArgumentException.class, () -> journal.redoTo(3));
+    journal.undoTo(0);
+    journal.redoTo(2);
+    assertEquals(Arrays.asList(1, 4), values);
+  }
+
+  @Test
+  public void testRevertKeepsLaterChanges() {
+    add(1);
+    int from = journal.mark();
+    add(2);
+    int to = journal.mark();
+    values.set(0, 10);
+    journal.record(new Change(0, 1, 10));
+
+    journal.revert(from, to);
+    assertEquals(Arrays.asList(10), values);
+
+    journal.undo();
+    assertEquals(Arrays.asList(10, 2), values);
+    journal.redo();
+    assertEquals(Arrays.asList(10), values);
+  }
+
+  @Test
+  public void testUnrecordedChangesAreNotUndone() {
+    add(1);
+    journal.unrecorded(() -> add(2));
+    assertEquals(1, journal.mark());
+    journal.undo();
+    assertEquals(Arrays.asList(2), values);
+  }
+
+  /* Appends a value to the end of `values`, recording it. */
+  private void add(int value) {
+    values.add(value);
+    journal.record(new Journal.Change() {
+      @Override
+      public void undo() {
+        values.remove(values.lastIndexOf(value));
+      }
+
+      @Override
+      public void redo() {
+        values.add(value);
+      }
+    });
+  }
+
+  /** Replacement of the value at an index. */
+  private final class Change implements Journal.Change {
+    private final int index;
+    private final int before;
+    private final int after;
+
+    Change(int index, int before, int after) {
+      this.index = index;
+      this.before = before;
+      this.after = after;
+    }
+
+    @Override
+    public void undo() {
+      values.set(index, before);
+    }
+
+    @Override
+    public void redo() {
+      values.set(index, after);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package edu.cmu.cs.cs323.scrabble.core.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.BoardSnapshot;
+import edu.cmu.cs.cs323.scrabble.core.board.Position;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.SpecialTile;
+import edu.cmu.cs.cs323.scrabble.core.specialtile.defaults.DefaultSpecialTileFactories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SWSGameTest {
+  private final Player first = new Player("First");
+  private final Player second = new Player("Second");
+  private final Set<String> words = new HashSet<>();
+  private final SWSGame game = new SWSGame(Arrays.asList(first, second),
+          word -> words.contains(word.toString()));
+
+  @Test
+  public void testChallengedInvalidMoveIsRolledBackExactly() {
+    game.setupGame();
+    SpecialTile skip = DefaultSpecialTileFactories.SKIP_TURN.create(first);
+    first.specialTiles().add(skip);
+    game.placeSpecialTile(first, Position.of(7, 8), skip);
+    game.endTurn(first);
+
+    List<LetterTile> rack = setRack(second, "CATSDOG");
+    BoardSnapshot before = game.boardSnapshot();
+    int scoreBefore = second.getScore();
+
+    Move cat = move(rack, 7, 6, 3);
+    game.placeMove(second, cat);
+    assertTrue(second.getScore() > scoreBefore);
+    assertFalse(game.viewOfSquare(first, Position.of(7, 8)).hasSpecialTiles());
+
+    game.challengeLastMove(first);
+
+    assertEquals(before.zobristHash(), game.boardSnapshot().zobristHash());
+    for (int col = 6; col < 9; col++) {
+      assertNull(game.viewOfSquare(second, Position.of(7, col)).getLetterTile());
+    }
+    assertEquals(Arrays.asList(skip),
+            game.viewOfSquare(first, Position.of(7, 8)).getSpecialTiles());
+    assertEquals(rack, second.letterTiles());
+    assertEquals(scoreBefore, second.getScore());
+    assertNull(game.lastMove());
+
+    /* The skip tile was put back on the board, so it no longer fires when the turn ends. */
+    game.endTurn(second);
+    assertSame(first, game.currentPlayer());
+  }
+
+  @Test
+  public void testChallengedValidMoveSkipsTheChallenger() {
+    words.add("CAT");
+    game.setupGame();
+    game.endTurn(first);
+
+    List<LetterTile> rack = setRack(second, "CATSDOG");
+    Move cat = move(rack, 7, 6, 3);
+    game.placeMove(second, cat);
+    int score = second.getScore();
+
+    game.challengeLastMove(first);
+
+    assertSame(cat, game.lastMove());
+    assertEquals(score, second.getScore());
+    assertSame(rack.get(0), game.viewOfSquare(first, Position.of(7, 6)).getLetterTile());
+    game.endTurn(second);
+    assertSame(second, game.currentPlayer());
+    game.endTurn(second);
+    assertSame(first, game.currentPlayer());
+  }
+
+  @Test
+  public void testTurnCanBeUndoneAndRedone() {
+    game.setupGame();
+    game.endTurn(first);
+    List<LetterTile> rack = setRack(second, "CATSDOG");
+    BoardSnapshot before = game.boardSnapshot();
+    int start = game.journal().mark();
+
+    game.placeMove(second, move(rack, 7, 6, 3));
+    BoardSnapshot after = game.boardSnapshot();
+    List<LetterTile> rackAfter = new ArrayList<>(second.letterTiles());
+    int scoreAfter = second.getScore();
+    int end = game.journal().mark();
+
+    game.journal().undoTo(start);
+    assertEquals(before.zobristHash(), game.boardSnapshot().zobristHash());
+    assertEquals(rack, second.letterTiles());
+    assertEquals(0, second.getScore());
+    assertNull(game.lastMove());
+
+    game.journal().redoTo(end);
+    assertEquals(after.zobristHash(), game.boardSnapshot().zobristHash());
+    assertEquals(rackAfter, second.letterTiles());
+    assertEquals(scoreAfter, second.getScore());
+    assertNotNull(game.lastMove());
+  }
+
+  @Test
+  public void testEndingATurnClearsTheJournal() {
+    game.setupGame();
+    game.endTurn(first);
+    List<LetterTile> rack = setRack(second, "CATSDOG");
+    game.placeMove(second, move(rack, 7, 6, 3));
+    assertTrue(game.journal().canUndo());
+
+    game.endTurn(second);
+
+    assertFalse(game.journal().canUndo());
+    assertFalse(game.journal().canRedo());
+    assertEquals(SWSGame.PLAYER_TILE_LIMIT, second.letterTiles().size());
+  }
+
+  /* Replaces the player's rack with tiles for the given letters, outside the journal. */
+  private static List<LetterTile> setRack(Player player, String letters) {
+    player.letterTiles().clear();
+    for (char letter : letters.toCharArray()) {
+      player.letterTiles().add(new LetterTile(Letter.valueOf(String.valueOf(letter))));
+    }
+    return new ArrayList<>(player.letterTiles());
+  }
+
+  /* Move placing the first `length` tiles of the rack across from (row, col). */
+  private static Move move(List<LetterTile> rack, int row, int col, int length) {
+    Map<Position, LetterTile> placements = new HashMap<>();
+    for (int i = 0; i < length; i++) {
+      placements.put(Position.of(row, col + i), rack.get(i));
+    }
+    return new Move(placements);
+  }
+}
@@ -0,0 +1,135 @@
+package edu.cmu.cs.cs323.scrabble.core.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.HashedLexicon;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.Lexicon;
+import edu.cmu.cs.cs323.scrabble.core.validation.lexicon.WordList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ReloadableValidatorTest {
+  /* Some file systems only poll for changes every few seconds. */
+  private static final long WATCH_TIMEOUT_MILLIS = 30000;
+  private static final List<String> OLD_WORDS = Arrays.asList("cat", "dog", "emu", "owl");
+  private static final List<String> NEW_WORDS = Arrays.asList("cow", "dog", "emu", "owl");
+
+  private final BlockingQueue<RuntimeException> failures = new LinkedBlockingQueue<>();
+  private Path directory;
+
+  @AfterEach
+  public void deleteDirectory() throws IOException {
+    if (directory != null) {
+      try (Stream<Path> files = Files.walk(directory)) {
+        for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+          Files.delete(file);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testAtomicReplaceSwapsTheDictionary() throws Exception {
+    Path words = writeWords("words.txt", OLD_WORDS);
+    ReloadableValidator validator = new ReloadableValidator(lexicon(OLD_WORDS));
+    Lexicon old = validator.lexicon();
+    try (Closeable watch = validator.watch(words, failures::add)) {
+      replace(words, NEW_WORDS);
+      long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MILLIS;
+      while (validator.lexicon() == old && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+    }
+    assertTrue(failures.isEmpty());
+    assertTrue(validator.isValidWord(word("cow")));
+    assertFalse(validator.isValidWord(word("cat")));
+  }
+
+  @Test
+  public void testTruncatedReplacementIsReportedAndIgnored() throws Exception {
+    Path words = writeWords("words.txt", OLD_WORDS);
+    ReloadableValidator validator = new ReloadableValidator(lexicon(OLD_WORDS));
+    Lexicon old = validator.lexicon();
+    try (Closeable watch = validator.watch(words, failures::add)) {
+      replace(words, Arrays.asList("cow"));
+      RuntimeException failure = failures.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      assertTrue(failure instanceof IllegalArgumentException);
+      replace(words, new ArrayList<>());
+      failure = failures.poll(WATCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      assertTrue(failure instanceof IllegalArgumentException);
+    }
+    assertSame(old, validator.lexicon());
+    assertTrue(validator.isValidWord(word("cat")));
+  }
+
+  @Test
+  public void testReadersSeeOneWholeDictionaryAtATime() throws Exception {
+    Lexicon first = lexicon(OLD_WORDS);
+    Lexicon second = lexicon(NEW_WORDS);
+    ReloadableValidator validator = new ReloadableValidator(first);
+    /* CAT is only in the first dictionary and COW only in the second, so a batch answered by one
+     * dictionary has exactly one of them. */
+    List<PlayedWord> batch = Arrays.asList(word("cat"), word("cow"));
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<String> mixed = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      while (!done.get()) {
+        boolean[] valid = validator.areValidWords(batch);
+        if (valid[0] == valid[1]) {
+          mixed.set(Arrays.toString(valid));
+        }
+      }
+    });
+    reader.start();
+    for (int i = 0; i < 100000; i++) {
+      validator.reload(i % 2 == 0 ? second : first);
+    }
+    done.set(true);
+    reader.join();
+    assertNull(mixed.get());
+  }
+
+  private Path writeWords(String name, List<String> words) throws IOException {
+    if (directory == null) {
+      directory = Files.createTempDirectory("dictionary");
+    }
+    return Files.write(directory.resolve(name), words);
+  }
+
+  /* Replaces a file the way watch() requires: write alongside, then move over it atomically. */
+  private void replace(Path file, List<String> words) throws IOException {
+    Path temporary = writeWords(file.getFileName() + ".tmp", words);
+    Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static Lexicon lexicon(List<String> words) {
+    return new HashedLexicon(WordList.of(words));
+  }
+
+  private static PlayedWord word(String text) {
+    List<Letter> letters = new ArrayList<>();
+    for (char letter : text.toUpperCase().toCharArray()) {
+      letters.add(Letter.valueOf(String.valueOf(letter)));
+    }
+    return new PlayedWord(letters, 0);
+  }
+}
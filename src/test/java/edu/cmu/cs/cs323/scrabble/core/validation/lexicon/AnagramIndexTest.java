@@ -0,0 +1,49 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+import edu.cmu.cs.cs323.scrabble.core.letters.LetterTile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AnagramIndexTest {
+  private final AnagramIndex index = new AnagramIndex(
+          WordList.of(Arrays.asList("a", "act", "at", "cat", "cats", "scat", "ta", "tact")));
+
+  @Test
+  public void testAnagramsUseEveryTile() {
+    assertEquals(new HashSet<>(Arrays.asList("ACT", "CAT")),
+            new HashSet<>(index.anagramsOf(rack("TCA"))));
+    assertEquals(new HashSet<>(Arrays.asList("CATS", "SCAT")),
+            new HashSet<>(index.anagramsOf(rack("STAC"))));
+    assertEquals(Collections.emptyList(), index.anagramsOf(rack("CATZ")));
+  }
+
+  @Test
+  public void testFormableWordsUseSomeOfTheTiles() {
+    assertEquals(new HashSet<>(Arrays.asList("ACT", "AT", "CAT", "TA", "TACT")),
+            new HashSet<>(index.formableWords(rack("TACTZ"))));
+  }
+
+  @Test
+  public void testNeitherReturnsWordsShorterThanTwoLetters() {
+    assertEquals(Collections.emptyList(), index.anagramsOf(rack("A")));
+    assertEquals(Collections.emptyList(), index.formableWords(rack("A")));
+    assertFalse(index.formableWords(rack("AT")).contains("A"));
+  }
+
+  private static List<LetterTile> rack(String letters) {
+    List<LetterTile> tiles = new ArrayList<>();
+    for (char letter : letters.toCharArray()) {
+      tiles.add(new LetterTile(Letter.valueOf(String.valueOf(letter))));
+    }
+    return tiles;
+  }
+}
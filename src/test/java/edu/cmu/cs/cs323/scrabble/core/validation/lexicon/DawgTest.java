@@ -0,0 +1,34 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class DawgTest {
+  private final Dawg dawg = Dawg.build(WordList.of(Arrays.asList("car", "cars", "cat", "cats", "do", "dog")));
+
+  @Test
+  public void testContainsEveryWord() {
+    for (String word : Arrays.asList("car", "cars", "cat", "cats", "do", "dog")) {
+      int node = dawg.nodeFor(word);
+      assertNotEquals(WordGraph.NONE, node);
+      assertTrue(dawg.isTerminal(node));
+    }
+    assertEquals(6, dawg.size());
+  }
+
+  @Test
+  public void testPrefixesAreNotWords() {
+    assertTrue(dawg.hasPrefix("ca"));
+    assertFalse(dawg.isTerminal(dawg.nodeFor("ca")));
+    assertFalse(dawg.hasPrefix("cb"));
+  }
+
+  @Test
+  public void testSharedSuffixesAreMerged() {
+    /* "car" and "cat" both end with an optional "s", so they lead to the same node. */
+    assertEquals(dawg.nodeFor("car"), dawg.nodeFor("cat"));
+  }
+}
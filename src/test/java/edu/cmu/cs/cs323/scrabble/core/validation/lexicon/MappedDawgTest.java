@@ -0,0 +1,68 @@
+package edu.cmu.cs.cs323.scrabble.core.validation.lexicon;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.cmu.cs.cs323.scrabble.core.board.PlayedWord;
+import edu.cmu.cs.cs323.scrabble.core.letters.Letter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MappedDawgTest {
+  private static final List<String> WORDS =
+          Arrays.asList("car", "cars", "cat", "cats", "do", "dog", "dogs", "zebra");
+  private static final List<String> OTHERS =
+          Arrays.asList("", "c", "ca", "cab", "catss", "dot", "zebras", "x");
+
+  @Test
+  public void testCompiledImageMapsBackToTheSameGraph() throws IOException {
+    Dawg dawg = Dawg.build(WordList.of(WORDS));
+    Path image = Files.createTempFile("words", ".dawg");
+    try {
+      LexiconCompiler.write(dawg, image);
+      MappedDawg mapped = MappedDawg.open(image);
+      assertEquals(dawg.size(), mapped.size());
+      List<String> all = new ArrayList<>(WORDS);
+      all.addAll(OTHERS);
+      for (String text : all) {
+        assertEquals(dawg.nodeFor(text), mapped.nodeFor(text));
+        assertEquals(dawg.hasPrefix(text), mapped.hasPrefix(text));
+        assertEquals(dawg.contains(word(text)), mapped.contains(word(text)));
+        assertEquals(WORDS.contains(text), mapped.contains(word(text)));
+      }
+      for (int node = 0; node < dawg.nodeCount(); node++) {
+        assertEquals(dawg.childMask(node), mapped.childMask(node));
+        assertEquals(dawg.isTerminal(node), mapped.isTerminal(node));
+      }
+    } finally {
+      Files.deleteIfExists(image);
+    }
+  }
+
+  @Test
+  public void testRejectsATruncatedImage() throws IOException {
+    Path image = Files.createTempFile("words", ".dawg");
+    try {
+      LexiconCompiler.write(Dawg.build(WordList.of(WORDS)), image);
+      byte[] bytes = Files.readAllBytes(image);
+      Files.write(image, Arrays.copyOf(bytes, bytes.length - 4));
+      assertThrows(IOException.class, () -> MappedDawg.open(image));
+    } finally {
+      Files.deleteIfExists(image);
+    }
+  }
+
+  private static PlayedWord word(String text) {
+    List<Letter> letters = new ArrayList<>();
+    for (char letter : text.toUpperCase().toCharArray()) {
+      letters.add(Letter.valueOf(String.valueOf(letter)));
+    }
+    return new PlayedWord(letters, 0);
+  }
+}